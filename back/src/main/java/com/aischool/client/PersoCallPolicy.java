@@ -0,0 +1,241 @@
+package com.aischool.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Perso 호출 보호 정책 (토큰 버킷 + 재시도 + 서킷 브레이커)
+ * - 모든 호출은 토큰 버킷으로 초당 요청 수 제한 (burst 허용)
+ * - 멱등 GET 만 5xx/429/네트워크 오류 시 decorrelated jitter 로 재시도
+ * - 연속 실패가 임계치를 넘으면 OPEN → openMs 동안 즉시 실패, 이후 HALF_OPEN 에서 1건 시험
+ * - 상태 전이/재시도/차단 횟수는 perso.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class PersoCallPolicy {
+
+    public enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private final MeterRegistry meters;
+
+    // 토큰 버킷
+    private final double ratePerSecond;
+    private final double burst;
+    private final long maxWaitMs;
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+
+    // 재시도
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    // 서킷 브레이커
+    private final int failureThreshold;
+    private final long openMs;
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public PersoCallPolicy(
+            MeterRegistry meters,
+            @Value("${perso.resilience.rate-per-second:5}") double ratePerSecond,
+            @Value("${perso.resilience.burst:10}") double burst,
+            @Value("${perso.resilience.rate-max-wait-ms:30000}") long maxWaitMs,
+            @Value("${perso.resilience.max-attempts:3}") int maxAttempts,
+            @Value("${perso.resilience.base-delay-ms:500}") long baseDelayMs,
+            @Value("${perso.resilience.max-delay-ms:8000}") long maxDelayMs,
+            @Value("${perso.resilience.failure-threshold:5}") int failureThreshold,
+            @Value("${perso.resilience.open-ms:30000}") long openMs
+    ) {
+        this.meters = meters;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.maxWaitMs = maxWaitMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMs = openMs;
+
+        Gauge.builder("perso.circuit.state", this, p -> p.state().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meters);
+    }
+
+    /**
+     * 정책을 적용해 호출
+     * @param op         메트릭/로그용 이름 (getExport 등)
+     * @param idempotent true 면 일시적 오류 시 재시도
+     * @throws PersoUnavailableException 서킷이 열려있거나 rate limit 대기 시간 초과
+     */
+    public <T> T execute(String op, boolean idempotent, Supplier<T> call) {
+        long prevDelay = baseDelayMs;
+        for (int attempt = 1; ; attempt++) {
+            acquirePermission(op);
+            try {
+                acquireToken(op);
+            } catch (PersoUnavailableException e) {
+                // 토큰을 못 얻은 HALF_OPEN 시험 호출은 시험을 하지 않은 것 → 다음 호출이 다시 시험할 수 있도록
+                releasePermission();
+                throw e;
+            }
+            try {
+                T result = call.get();
+                onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    // 4xx 등 요청 자체의 문제는 Perso 장애로 보지 않음
+                    onSuccess();
+                    throw e;
+                }
+                onFailure(op, e);
+                if (!idempotent || attempt >= maxAttempts || state() == CircuitState.OPEN) throw e;
+
+                // decorrelated jitter: sleep = min(cap, random(base, prev * 3))
+                long delay = Math.min(maxDelayMs,
+                        ThreadLocalRandom.current().nextLong(baseDelayMs, Math.max(baseDelayMs + 1, prevDelay * 3)));
+                prevDelay = delay;
+                Counter.builder("perso.retries").tag("op", op).register(meters).increment();
+                log.warn("[Perso] {} failed (attempt {}/{}), retrying in {}ms: {}",
+                        op, attempt, maxAttempts, delay, e.getMessage());
+                sleep(delay);
+            }
+        }
+    }
+
+    /**
+     * 1회만 시도 (재시도/토큰 대기 없음)
+     * - 스스로 다시 예약하는 호출자용 (ExportStatusPoller): 한 호출이 공용 스레드를 붙잡지 않도록
+     * @throws PersoUnavailableException 서킷이 열려있거나 지금 쓸 토큰이 없음
+     */
+    public <T> T tryExecute(String op, Supplier<T> call) {
+        tryAcquireToken(op);
+        acquirePermission(op);
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) onFailure(op, e);
+            else onSuccess();
+            throw e;
+        }
+    }
+
+    public synchronized CircuitState state() {
+        if (state == CircuitState.OPEN && System.currentTimeMillis() - openedAt >= openMs) {
+            transition(CircuitState.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /** 5xx / 429 / 타임아웃·연결 오류만 일시적 장애로 간주 */
+    static boolean isTransient(RuntimeException e) {
+        if (e instanceof ResourceAccessException) return true;
+        if (e instanceof RestClientResponseException r) {
+            int code = r.getStatusCode().value();
+            return code >= 500 || code == 429;
+        }
+        return false;
+    }
+
+    private synchronized void acquirePermission(String op) {
+        CircuitState s = state();
+        if (s == CircuitState.OPEN || (s == CircuitState.HALF_OPEN && trialInFlight)) {
+            Counter.builder("perso.circuit.rejected").tag("op", op).register(meters).increment();
+            throw new PersoUnavailableException("Perso circuit is " + s + ", failing fast: " + op);
+        }
+        if (s == CircuitState.HALF_OPEN) trialInFlight = true;
+    }
+
+    /** 호출하지 못한 HALF_OPEN 시험 권한 반납 */
+    private synchronized void releasePermission() {
+        trialInFlight = false;
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        if (state != CircuitState.CLOSED) transition(CircuitState.CLOSED);
+    }
+
+    private synchronized void onFailure(String op, RuntimeException e) {
+        consecutiveFailures++;
+        trialInFlight = false;
+        Counter.builder("perso.failures").tag("op", op).register(meters).increment();
+        if (state == CircuitState.HALF_OPEN
+                || (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = System.currentTimeMillis();
+            transition(CircuitState.OPEN);
+            log.error("[Perso] circuit opened after {} consecutive failures (last: {})",
+                    consecutiveFailures, e.getMessage());
+        }
+    }
+
+    private void transition(CircuitState to) {
+        CircuitState from = state;
+        state = to;
+        Counter.builder("perso.circuit.transitions")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .register(meters)
+                .increment();
+        log.info("[Perso] circuit {} -> {}", from, to);
+    }
+
+    /** 토큰이 없으면 채워질 때까지 대기 (maxWaitMs 초과 시 실패) */
+    private void acquireToken(String op) {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;   // 미리 예약 (음수면 그만큼 기다림)
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / ratePerSecond * 1e9);
+            if (TimeUnit.NANOSECONDS.toMillis(waitNanos) > maxWaitMs) {
+                tokens += 1;
+                Counter.builder("perso.ratelimit.rejected").tag("op", op).register(meters).increment();
+                throw new PersoUnavailableException("Perso rate limit wait exceeded " + maxWaitMs + "ms: " + op);
+            }
+        }
+        if (waitNanos > 0) sleep(TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+    }
+
+    /** 지금 토큰이 있을 때만 사용, 없으면 바로 실패 */
+    private synchronized void tryAcquireToken(String op) {
+        refill();
+        if (tokens < 1) {
+            Counter.builder("perso.ratelimit.rejected").tag("op", op).register(meters).increment();
+            throw new PersoUnavailableException("Perso rate limit reached: " + op);
+        }
+        tokens -= 1;
+    }
+
+    /** 경과 시간만큼 토큰 보충 (this 락을 잡은 상태에서 호출) */
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) / 1e9 * ratePerSecond);
+        refilledAt = now;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new PersoUnavailableException("Interrupted while waiting to call Perso");
+        }
+    }
+}
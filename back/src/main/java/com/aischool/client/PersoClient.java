@@ -1,5 +1,12 @@
 package com.aischool.client;
 
+import com.aischool.dto.PersoExportResponse;
+import com.aischool.dto.PersoProjectDetail;
+import com.aischool.dto.PersoProjectResponse;
+import com.aischool.dto.PersoScript;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +18,14 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -20,6 +33,8 @@ import java.util.Map;
 public class PersoClient {
 
     private final RestClient rest;
+    private final ObjectMapper objectMapper;
+    private final PersoCallPolicy policy;
 
     @Value("${perso.base-url}")
     private String baseUrl;
@@ -40,7 +55,7 @@ public class PersoClient {
     }
 
     /** 프로젝트 생성: application/x-www-form-urlencoded */
-    public Map<String, Object> createProject(
+    public PersoProjectResponse createProject(
             String inputName,
             String inputUrl,
             String sourceLang,
@@ -63,13 +78,13 @@ public class PersoClient {
         log.debug("[Perso] createProject form={}", form);
 
         try {
-            return rest.post()
+            return policy.execute("createProject", false, () -> rest.post()
                     .uri(baseUrl + "/api/video_translator/v2/project/")
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .headers(h -> auth().forEach(h::set))
                     .body(form)
                     .retrieve()
-                    .body(Map.class);
+                    .body(PersoProjectResponse.class));
         } catch (RestClientResponseException ex) {
             log.error("[Perso] createProject error {} {}", ex.getRawStatusCode(), ex.getResponseBodyAsString());
             throw ex;
@@ -77,13 +92,14 @@ public class PersoClient {
     }
 
     /** EXPORT 생성: application/x-www-form-urlencoded */
-    public Map<String, Object> createExport(
+    public PersoExportResponse createExport(
             String projectId,
             String targetLang,
             String exportType,
             boolean lipsync,
             boolean watermark,
-            String serverLabel
+            String serverLabel,
+            int priority
     ) {
 
         MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
@@ -91,39 +107,122 @@ public class PersoClient {
         form.add("export_type", exportType); // "INITIAL_EXPORT" / "PROOFREAD_EXPORT"
         form.add("target_language", targetLang);
         form.add("server_label", serverLabel == null ? "" : serverLabel);
-        form.add("priority", "0");
+        form.add("priority", String.valueOf(priority));
         form.add("lipsync", String.valueOf(lipsync));
         form.add("watermark", String.valueOf(watermark));
 
         log.debug("[Perso] createExport form={}", form);
 
         try {
-            return rest.post()
+            return policy.execute("createExport", false, () -> rest.post()
                     .uri(baseUrl + "/api/video_translator/v2/export/")
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .headers(h -> auth().forEach(h::set))
                     .body(form)
                     .retrieve()
-                    .body(Map.class);
+                    .body(PersoExportResponse.class));
         } catch (RestClientResponseException ex) {
             log.error("[Perso] createExport error {} {}", ex.getRawStatusCode(), ex.getResponseBodyAsString());
             throw ex;
         }
     }
 
-    public Map<String, Object> getExport(String exportId) {
+    public PersoExportResponse getExport(String exportId) {
+        return policy.execute("getExport", true, () -> fetchExport(exportId));
+    }
+
+    /** poller 전용 export 조회: 재시도/토큰 대기 없이 1회 (실패하면 poller 가 다음 확인으로 다시 예약) */
+    public PersoExportResponse pollExport(String exportId) {
+        return policy.tryExecute("getExport", () -> fetchExport(exportId));
+    }
+
+    private PersoExportResponse fetchExport(String exportId) {
         return rest.get()
                 .uri(baseUrl + "/api/video_translator/v2/export/{id}/", exportId)
                 .headers(h -> auth().forEach(h::set))
                 .retrieve()
-                .body(Map.class);
+                .body(PersoExportResponse.class);
     }
 
-    public Map<String, Object> getProject(String projectId) {
-        return rest.get()
+    /**
+     * 프로젝트 존재 확인 (본문은 읽지 않음)
+     * @return 404/410 이면 false
+     * @throws RestClientResponseException 그 외 4xx/5xx (재시도 후에도 실패한 일시 장애 포함)
+     */
+    public boolean projectExists(String projectId) {
+        return policy.execute("projectExists", true, () -> rest.get()
                 .uri(baseUrl + "/api/video_translator/v2/project/{id}/", projectId)
                 .headers(h -> auth().forEach(h::set))
-                .retrieve()
-                .body(Map.class);
+                .exchange((req, res) -> {
+                    int code = res.getStatusCode().value();
+                    if (code == 404 || code == 410) return false;
+                    if (res.getStatusCode().isError()) {
+                        byte[] body = res.getBody().readAllBytes();
+                        throw new RestClientResponseException(
+                                "Perso getProject " + projectId + " failed", res.getStatusCode(),
+                                res.getStatusText(), res.getHeaders(), body, StandardCharsets.UTF_8);
+                    }
+                    return true;
+                }));
+    }
+
+    /**
+     * 프로젝트 상세를 스트리밍으로 파싱
+     * - scripts 배열은 한 줄씩 PersoScript 로 읽음 (JSON 트리/Map 으로 만들지 않음)
+     * - 읽은 줄은 시도마다 새로 모았다가 성공한 시도의 것만 onScript 에 전달
+     *   (중간에 끊겨 재시도되어도 같은 줄을 두 번 받지 않음 → 호출 측 줄 수 비교가 맞음)
+     * - 4xx/5xx 는 RestClientResponseException
+     */
+    public PersoProjectDetail getProject(String projectId, Consumer<PersoScript> onScript) {
+        List<PersoScript> scripts = new ArrayList<>();
+        PersoProjectDetail detail = policy.execute("getProject", true, () -> rest.get()
+                .uri(baseUrl + "/api/video_translator/v2/project/{id}/", projectId)
+                .headers(h -> auth().forEach(h::set))
+                .exchange((req, res) -> {
+                    if (res.getStatusCode().isError()) {
+                        byte[] body = res.getBody().readAllBytes();
+                        throw new RestClientResponseException(
+                                "Perso getProject " + projectId + " failed", res.getStatusCode(),
+                                res.getStatusText(), res.getHeaders(), body, StandardCharsets.UTF_8);
+                    }
+                    scripts.clear();   // 이전 시도에서 읽다 만 줄 버림
+                    try (InputStream body = res.getBody()) {
+                        return parseProject(body, onScript == null ? null : scripts::add);
+                    }
+                }));
+        if (onScript != null) scripts.forEach(onScript);
+        return detail;
+    }
+
+    private PersoProjectDetail parseProject(InputStream body, Consumer<PersoScript> onScript) throws IOException {
+        String projectId = null;
+        Integer durationSec = null;
+        int count = 0;
+        int maxEndMs = 0;
+
+        try (JsonParser p = objectMapper.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected Perso project payload");
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("project_id".equals(field)) {
+                    projectId = p.getValueAsString();
+                } else if ("input_file_video_duration_sec".equals(field)) {
+                    durationSec = (value == JsonToken.VALUE_NULL) ? null : p.getValueAsInt();
+                } else if ("scripts".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        PersoScript script = objectMapper.readValue(p, PersoScript.class);
+                        count++;
+                        if (script.endMs() != null) maxEndMs = Math.max(maxEndMs, script.endMs());
+                        if (onScript != null) onScript.accept(script);
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        return new PersoProjectDetail(projectId, durationSec, count, maxEndMs);
     }
 }
@@ -0,0 +1,9 @@
+package com.aischool.client;
+
+/** Perso 호출을 보내지 않고 즉시 실패 (서킷 OPEN / rate limit 대기 초과) */
+public class PersoUnavailableException extends RuntimeException {
+
+    public PersoUnavailableException(String message) {
+        super(message);
+    }
+}
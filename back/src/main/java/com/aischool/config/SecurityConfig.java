@@ -25,6 +25,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(
                     "/api/translate/**",
+                    "/api/translations/perso/webhook", // Perso 웹훅 (서명으로 검증)
                     "/api/contents/**",   // ✅ 프론트 검색 API 허용 추가
                     "/error",
                     "/login/**",
@@ -0,0 +1,25 @@
+package com.aischool.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TranslationExecutorConfig {
+
+    /** 번역 작업 전용 워커 풀 (Tomcat 스레드와 분리) */
+    @Bean(name = "translationExecutor")
+    public ThreadPoolTaskExecutor translationExecutor(
+            @Value("${translation.worker.pool-size:4}") int poolSize,
+            @Value("${translation.worker.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("translate-");
+        executor.initialize();
+        return executor;
+    }
+}
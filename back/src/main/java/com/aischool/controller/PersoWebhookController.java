@@ -0,0 +1,120 @@
+package com.aischool.controller;
+
+import com.aischool.service.TranslationJobService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Perso export 완료 웹훅 수신
+ * - perso.webhook-secret 으로 검증
+ *   1) X-Perso-Signature: hex(HMAC-SHA256(body, secret)) ("sha256=" 접두어 허용)
+ *   2) 또는 웹훅 URL 에 ?token=secret 을 붙여 등록한 경우 공유 비밀값 비교
+ * - 검증 통과 시 export 최신 상태를 조회해서 결과 수집 (비동기)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/translations/perso")
+public class PersoWebhookController {
+
+    private static final TypeReference<Map<String, Object>> EVENT_TYPE = new TypeReference<>() {};
+
+    private final TranslationJobService jobService;
+    private final ObjectMapper objectMapper;
+    private final byte[] secret;
+
+    public PersoWebhookController(
+            TranslationJobService jobService,
+            ObjectMapper objectMapper,
+            @Value("${perso.webhook-secret:}") String secret
+    ) {
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/webhook")
+    public ResponseEntity<Void> webhook(
+            @RequestBody(required = false) byte[] body,
+            @RequestHeader(value = "X-Perso-Signature", required = false) String signature,
+            @RequestParam(value = "token", required = false) String token
+    ) {
+        byte[] payload = body == null ? new byte[0] : body;
+        if (!verify(payload, signature, token)) {
+            log.warn("[Webhook] rejected: invalid signature/token");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        String exportId;
+        try {
+            Map<String, Object> event = objectMapper.readValue(payload, EVENT_TYPE);
+            exportId = extractExportId(event);
+        } catch (Exception e) {
+            log.warn("[Webhook] unreadable payload: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        if (exportId == null) {
+            log.warn("[Webhook] payload without export id");
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("[Webhook] export {} callback received", exportId);
+        boolean accepted = jobService.onExportCallback(exportId);
+        return accepted ? ResponseEntity.accepted().build() : ResponseEntity.ok().build();
+    }
+
+    private boolean verify(byte[] payload, String signature, String token) {
+        if (secret.length == 0) {
+            log.warn("[Webhook] perso.webhook-secret is not configured; all callbacks are rejected");
+            return false;
+        }
+        if (signature != null && !signature.isBlank()) {
+            String hex = signature.trim();
+            if (hex.startsWith("sha256=")) hex = hex.substring("sha256=".length());
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+                byte[] expected = mac.doFinal(payload);
+                return MessageDigest.isEqual(expected, HexFormat.of().parseHex(hex.toLowerCase()));
+            } catch (Exception e) {
+                return false;
+            }
+        }
+        return token != null && MessageDigest.isEqual(secret, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 이벤트 본문(또는 data 하위)에서 export id 추출 */
+    private static String extractExportId(Map<String, Object> event) {
+        String[] keys = {"projectexport_id", "export_id", "projectexport"};
+        for (Map<String, Object> src : Arrays.asList(event, asMap(event.get("data")))) {
+            if (src == null) continue;
+            for (String k : keys) {
+                Object v = src.get(k);
+                if (v != null && !v.toString().isBlank()) return v.toString();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return (value instanceof Map<?, ?> m) ? (Map<String, Object>) m : null;
+    }
+}
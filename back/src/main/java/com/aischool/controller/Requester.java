@@ -0,0 +1,21 @@
+package com.aischool.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/** 번역 요청자 식별 (TranslationController / TranslationBulkController 공용) */
+final class Requester {
+
+    private Requester() {
+    }
+
+    /** 공정 큐 키: 로그인 사용자명, 없으면 클라이언트 IP */
+    static String of(Authentication authentication, HttpServletRequest request) {
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,95 @@
+package com.aischool.controller;
+
+import com.aischool.dto.BulkImportEvent;
+import com.aischool.dto.BulkImportReport;
+import com.aischool.dto.TranslateRequest;
+import com.aischool.service.BulkImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카탈로그 일괄 등록 API
+ * - POST 로 manifest(JSON 또는 text/csv)를 올리면 행별 진행 상황을 NDJSON 으로 스트리밍
+ * - 스트림이 끊겨도 등록은 계속 진행 → GET /{importId} 로 리포트 조회
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/translate/bulk")
+public class TranslationBulkController {
+
+    /** 수백 건 일괄 등록은 몇 시간 걸릴 수 있으므로 스트림 타임아웃 없음 */
+    private static final long NO_TIMEOUT = 0L;
+
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
+
+    /** 1) 일괄 등록 시작 (application/x-ndjson: 행별 이벤트 + 마지막 REPORT) */
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public ResponseEntity<ResponseBodyEmitter> importManifest(
+            @RequestBody String body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            Authentication authentication,
+            HttpServletRequest request
+    ) {
+        boolean csv = contentType.toLowerCase(Locale.ROOT).startsWith("text/csv");
+        List<TranslateRequest> manifest = bulkImportService.parse(body, csv);
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(NO_TIMEOUT);
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onError(e -> open.set(false));
+        emitter.onCompletion(() -> open.set(false));
+        String importId = bulkImportService.start(manifest, Requester.of(authentication, request),
+                event -> send(emitter, open, event));
+        log.info("[Bulk] streaming import={} ({} rows)", importId, manifest.size());
+
+        return ResponseEntity.accepted()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("X-Import-Id", importId)
+                .body(emitter);
+    }
+
+    /** 2) 일괄 등록 리포트 조회 (진행 중이면 현재 시점 스냅샷) */
+    @GetMapping("/{importId}")
+    public ResponseEntity<BulkImportReport> report(@PathVariable String importId) {
+        return bulkImportService.report(importId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bulk import not found"));
+    }
+
+    /** 이벤트 1건 = JSON 1줄, REPORT 후 스트림 종료 (여러 스레드에서 호출되므로 emitter 단위로 직렬화) */
+    private void send(ResponseBodyEmitter emitter, AtomicBoolean open, BulkImportEvent event) {
+        synchronized (emitter) {
+            if (!open.get()) return;
+            try {
+                emitter.send(objectMapper.writeValueAsString(event) + "\n", MediaType.APPLICATION_NDJSON);
+                if ("REPORT".equals(event.getType())) emitter.complete();
+            } catch (Exception e) {
+                // 클라이언트 연결 종료 → 이후 이벤트는 버리고 등록은 계속
+                log.debug("[Bulk] stream closed for import={}: {}", event.getImportId(), e.getMessage());
+                open.set(false);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -2,15 +2,20 @@ package com.aischool.controller;
 
 import com.aischool.dto.ContentsDetailResponse;
 import com.aischool.dto.TranslateRequest;
-import com.aischool.dto.TranslateResponse;
+import com.aischool.dto.TranslationJobResponse;
 import com.aischool.entity.Contents;
 import com.aischool.entity.Script;
+import com.aischool.entity.TranslationJob;
 import com.aischool.repository.ContentsRepository;
 import com.aischool.repository.ScriptRepository;
-import com.aischool.service.TranslationService;
+import com.aischool.service.TranslationJobService;
+import com.aischool.service.TranslationProgressHub;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Locale;
@@ -29,15 +35,40 @@ import java.util.Optional;
 @RequestMapping("/api/translate")
 public class TranslationController {
 
-    private final TranslationService service;
+    private final TranslationJobService jobService;
+    private final TranslationProgressHub progressHub;
     private final ScriptRepository scriptRepo;
     private final ContentsRepository contentsRepo;
 
-    /** 1) 번역 작업 요청부터 완료까지 일괄 수행 */
+    /** 1) 번역 작업 접수 (대상 언어별 job, 202 + jobId 즉시 반환, 실제 처리는 워커 풀) */
     @PostMapping
-    public ResponseEntity<TranslateResponse> translate(@RequestBody TranslateRequest req) throws Exception {
-        TranslateResponse res = service.translateAndSave(req);
-        return ResponseEntity.ok(res);
+    public ResponseEntity<List<TranslationJobResponse>> translate(@RequestBody TranslateRequest req,
+                                                                  Authentication authentication,
+                                                                  HttpServletRequest request) {
+        if (req.getInputFileUrl() == null || req.getInputFileUrl().isBlank()
+                || req.resolveTargetLangs().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "input_file_url and target_language(s) are required");
+        }
+        List<TranslationJob> jobs = jobService.submit(req, Requester.of(authentication, request),
+                TranslationJob.Priority.INTERACTIVE);
+        return ResponseEntity.accepted()
+                .body(jobs.stream().map(TranslationJobResponse::from).toList());
+    }
+
+    /** 1-1) 번역 작업 상태 조회 */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<TranslationJobResponse> job(@PathVariable Long jobId) {
+        TranslationJob job = jobService.findJob(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Translation job not found"));
+        return ResponseEntity.ok(TranslationJobResponse.from(job, jobService.expectedCompletionAt(job).orElse(null)));
+    }
+
+    /** 1-2) 번역 작업 진행 단계 스트림 (SSE: 현재 단계 → 이후 단계들 → DONE/FAILED 후 종료) */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter jobEvents(@PathVariable Long jobId) {
+        return progressHub.subscribe(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Translation job not found"));
     }
 
     /** 2) 저장된 스크립트 조회 */
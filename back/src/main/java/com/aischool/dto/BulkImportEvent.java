@@ -0,0 +1,14 @@
+package com.aischool.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/** 일괄 등록 진행 이벤트 (NDJSON 한 줄) */
+@Value
+@Builder
+public class BulkImportEvent {
+    String type;                  // ROW_SUBMITTED / ROW_FINISHED / REPORT
+    String importId;
+    BulkImportReport.Row row;     // ROW_* 이벤트
+    BulkImportReport report;      // REPORT 이벤트 (마지막 줄)
+}
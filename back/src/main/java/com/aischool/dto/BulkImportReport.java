@@ -0,0 +1,36 @@
+package com.aischool.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 일괄 등록(bulk import) 결과 리포트 (진행 중에도 현재 시점 스냅샷으로 조회 가능) */
+@Value
+@Builder
+public class BulkImportReport {
+    String importId;
+    String status;          // RUNNING / DONE
+    int total;              // manifest 행 수
+    int submitted;          // 번역 파이프라인에 넘긴 행 수 (중복/오류 제외)
+    int completed;
+    int failed;             // 작업 실패 + 입력 오류
+    int duplicates;         // 같은 원본(sourceKey) 행에 합쳐진 수
+    LocalDateTime startedAt;
+    LocalDateTime finishedAt;
+    long elapsedMs;
+    List<Row> rows;
+
+    @Value
+    @Builder
+    public static class Row {
+        int rowIndex;                       // manifest 상 1부터 시작하는 행 번호
+        String inputFileUrl;
+        String title;
+        List<String> targetLangs;
+        String status;                      // PENDING / SUBMITTED / COMPLETED / FAILED / DUPLICATE / INVALID
+        String message;
+        List<TranslationJobResponse> jobs;
+    }
+}
@@ -16,6 +16,7 @@ public class ContentsDetailResponse {
     String contentsPath; // 재생에 쓰일 로컬/외부 경로
     String projectId;
     String exportId;
+    String status;       // SCRIPTS_READY(스크립트만 준비, 영상 대기) / READY
 
     public static ContentsDetailResponse from(Contents c) {
         return ContentsDetailResponse.builder()
@@ -28,6 +29,7 @@ public class ContentsDetailResponse {
                 .contentsPath(c.getContentsPath())
                 .projectId(c.getProjectId())
                 .exportId(c.getExportId())
+                .status(c.getStatus() != null ? c.getStatus().name() : Contents.Status.READY.name())
                 .build();
     }
 }
\ No newline at end of file
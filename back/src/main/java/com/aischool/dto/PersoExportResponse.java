@@ -0,0 +1,40 @@
+package com.aischool.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** Perso export 생성/조회 응답 (필요한 필드만) */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PersoExportResponse(
+        @JsonProperty("projectexport_id") String exportId,
+        @JsonProperty("status") String status,
+        @JsonProperty("failure_reason") String failureReason,
+        @JsonProperty("failure_reason_detail") String failureReasonDetail,
+        @JsonProperty("status_message") String statusMessage,
+        @JsonProperty("progress") Integer progress,
+        @JsonProperty("video_output_video_with_lipsync") String videoWithLipsync,
+        @JsonProperty("video_output_video_without_lipsync") String videoWithoutLipsync
+) {
+
+    public boolean isCompleted() {
+        return "COMPLETED".equalsIgnoreCase(status);
+    }
+
+    public boolean isFailed() {
+        return "FAILED".equalsIgnoreCase(status);
+    }
+
+    /** 실패 사유 (failure_reason → detail → status_message 순) */
+    public String failureMessage() {
+        if (failureReason != null) return failureReason;
+        if (failureReasonDetail != null) return failureReasonDetail;
+        return statusMessage != null ? statusMessage : "unknown";
+    }
+
+    /** 결과 영상 URL (요청한 립싱크 여부 우선, 없으면 다른 쪽) */
+    public String outputVideoUrl(boolean lipsync) {
+        String preferred = lipsync ? videoWithLipsync : videoWithoutLipsync;
+        if (preferred != null) return preferred;
+        return videoWithoutLipsync != null ? videoWithoutLipsync : videoWithLipsync;
+    }
+}
@@ -0,0 +1,14 @@
+package com.aischool.dto;
+
+/**
+ * Perso 프로젝트 상세 (scripts 제외)
+ * - scripts 는 PersoClient.getProject 에서 스트리밍으로 한 줄씩 콜백
+ * @param scriptMaxEndMs 스크립트 end_ms 최대값 (duration 보정용, 없으면 0)
+ */
+public record PersoProjectDetail(
+        String projectId,
+        Integer durationSec,
+        int scriptCount,
+        int scriptMaxEndMs
+) {
+}
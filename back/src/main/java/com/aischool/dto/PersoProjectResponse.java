@@ -0,0 +1,11 @@
+package com.aischool.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** Perso 프로젝트 생성 응답 */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PersoProjectResponse(
+        @JsonProperty("project_id") String projectId
+) {
+}
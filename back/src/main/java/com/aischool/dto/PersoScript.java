@@ -0,0 +1,15 @@
+package com.aischool.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** Perso 프로젝트의 스크립트 한 줄 (원문/번역문) */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PersoScript(
+        @JsonProperty("order") Integer order,
+        @JsonProperty("start_ms") Integer startMs,
+        @JsonProperty("end_ms") Integer endMs,
+        @JsonProperty("text_original") String textOriginal,
+        @JsonProperty("text_translated") String textTranslated
+) {
+}
@@ -7,6 +7,12 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.Data;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 /**
  * 클라이언트가 snake_case로 요청을 보내도 자동 매핑되도록 설정
  * 예시 요청:
@@ -15,6 +21,7 @@ import lombok.Data;
  * "source_language": "ko",
  * "target_language": "en"
  * }
+ * 여러 언어 동시 요청: "target_languages": ["en", "ja", "zh"]
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -32,6 +39,8 @@ public class TranslateRequest {
     private String sourceLang;
     @JsonProperty("target_language")
     private String targetLang;
+    @JsonProperty("target_languages")
+    private List<String> targetLangs;
     @JsonProperty("lipsync")
     private boolean lipsync = false;
     @JsonProperty("watermark")
@@ -40,4 +49,18 @@ public class TranslateRequest {
     private Integer durationSec;
     @JsonProperty("number_of_speakers")
     private Integer numberOfSpeakers = 1;
-}
\ No newline at end of file
+
+    /** target_language + target_languages 를 합친 대상 언어 목록 (소문자, 중복 제거) */
+    public List<String> resolveTargetLangs() {
+        Set<String> langs = new LinkedHashSet<>();
+        if (targetLang != null && !targetLang.isBlank()) {
+            langs.add(targetLang.trim().toLowerCase(Locale.ROOT));
+        }
+        if (targetLangs != null) {
+            for (String lang : targetLangs) {
+                if (lang != null && !lang.isBlank()) langs.add(lang.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return new ArrayList<>(langs);
+    }
+}
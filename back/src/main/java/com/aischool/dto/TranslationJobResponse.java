@@ -0,0 +1,43 @@
+package com.aischool.dto;
+
+import com.aischool.entity.TranslationJob;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class TranslationJobResponse {
+    Long jobId;
+    String status;        // QUEUED / PROCESSING / EXPORTING / FINALIZING / COMPLETED / FAILED
+    String targetLang;
+    String priority;      // INTERACTIVE / BULK
+    String projectId;
+    String exportId;
+    Integer contentsId;   // 번역본 contents_id (스크립트 선저장 시점부터, 영상은 COMPLETED 이후)
+    String errorMessage;
+    LocalDateTime createdAt;
+    LocalDateTime completedAt;
+    LocalDateTime expectedCompletionAt;   // EXPORTING 중 예상 완료 시각 (과거 실측 p50 기준, 모르면 null)
+
+    public static TranslationJobResponse from(TranslationJob job) {
+        return from(job, null);
+    }
+
+    public static TranslationJobResponse from(TranslationJob job, LocalDateTime expectedCompletionAt) {
+        return TranslationJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .targetLang(job.getTargetLang())
+                .priority(job.getPriority() != null ? job.getPriority().name() : null)
+                .projectId(job.getProjectId())
+                .exportId(job.getExportId())
+                .contentsId(job.getContentsId())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .expectedCompletionAt(expectedCompletionAt)
+                .build();
+    }
+}
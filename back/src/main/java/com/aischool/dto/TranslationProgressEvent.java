@@ -0,0 +1,38 @@
+package com.aischool.dto;
+
+import com.aischool.entity.TranslationJob;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/** 번역 job 진행 단계 이벤트 (SSE data 1건) */
+@Value
+@Builder(toBuilder = true)
+public class TranslationProgressEvent {
+
+    public enum Stage {
+        QUEUED, PROJECT_CREATED, EXPORT_QUEUED, EXPORT_PROCESSING, DOWNLOADING, SCRIPTS_SAVED, DONE, FAILED
+    }
+
+    Long jobId;
+    Stage stage;
+    String status;                        // job 상태 (QUEUED / PROCESSING / EXPORTING / FINALIZING / COMPLETED / FAILED)
+    String persoStatus;                   // EXPORT_PROCESSING: Perso export 상태
+    Integer progress;                     // EXPORT_PROCESSING: Perso 진행률 (0~100, 모르면 null)
+    Long bytes;                           // DOWNLOADING: 받은 바이트
+    Long totalBytes;                      // DOWNLOADING: 전체 바이트 (모르면 null)
+    Integer contentsId;                   // SCRIPTS_SAVED / DONE
+    String message;                       // FAILED: 실패 사유
+    LocalDateTime expectedCompletionAt;   // export 예상 완료 시각 (과거 실측 p50, 모르면 null)
+    LocalDateTime at;
+
+    /** job 기본 정보가 채워진 builder */
+    public static TranslationProgressEventBuilder of(TranslationJob job, Stage stage) {
+        return TranslationProgressEvent.builder()
+                .jobId(job.getJobId())
+                .stage(stage)
+                .status(job.getStatus() != null ? job.getStatus().name() : null)
+                .at(LocalDateTime.now());
+    }
+}
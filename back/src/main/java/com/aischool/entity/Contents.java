@@ -32,6 +32,7 @@ public class Contents {
     @Column(name = "duration_sec")
     private Integer durationSec;
 
+    // 번역본: 해당 export 의 프로젝트 / 원본: 재사용할 Perso 프로젝트
     @Column(name = "project_id", length = 64)
     private String projectId;
 
@@ -50,4 +51,14 @@ public class Contents {
 
     @Column(name = "source_key", length = 128)
     private String sourceKey;
+
+    // 번역본 준비 상태 (NULL 은 상태 컬럼 도입 전 row → 완료로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Status status;
+
+    public enum Status {
+        SCRIPTS_READY,  // 스크립트는 저장됨, 영상은 export 대기 중
+        READY           // 영상까지 저장 완료
+    }
 }
@@ -0,0 +1,152 @@
+package com.aischool.entity;
+
+import com.aischool.dto.TranslateRequest;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "translation_job",
+    indexes = {
+        @Index(name = "idx_translation_job_status", columnList = "status"),
+        @Index(name = "idx_translation_job_export", columnList = "export_id")
+    }
+)
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class TranslationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private Status status;
+
+    // ---- 요청 파라미터 (워커가 다시 읽어서 실행) ----
+    @Column(name = "input_file_url", length = 1000, nullable = false)
+    private String inputFileUrl;
+
+    @Column(length = 255)
+    private String title;
+
+    @Column(name = "source_lang", length = 8)
+    private String sourceLang;
+
+    @Column(name = "target_lang", length = 8)
+    private String targetLang;
+
+    private boolean lipsync;
+
+    private boolean watermark;
+
+    @Column(name = "duration_sec")
+    private Integer durationSec;
+
+    @Column(name = "number_of_speakers")
+    private Integer numberOfSpeakers;
+
+    // ---- Perso 진행 정보 ----
+    @Column(name = "project_id", length = 64)
+    private String projectId;
+
+    @Column(name = "export_id", length = 64)
+    private String exportId;
+
+    // startExport 단계에서 확정되는 값 (완료 처리 시 재사용)
+    @Column(name = "story_title", length = 255)
+    private String storyTitle;
+
+    @Column(name = "source_key", length = 128)
+    private String sourceKey;
+
+    @Column(name = "original_contents_id")
+    private Integer originalContentsId;
+
+    // export 실측 소요 시간 (ETA 예측용)
+    @Column(name = "export_started_at")
+    private LocalDateTime exportStartedAt;
+
+    @Column(name = "export_finished_at")
+    private LocalDateTime exportFinishedAt;
+
+    // 완료 시 생성된 번역본 contents_id
+    @Column(name = "contents_id")
+    private Integer contentsId;
+
+    // ---- 스케줄링 ----
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Priority priority;
+
+    // 요청자 (로그인 사용자명, 없으면 IP) → 사용자별 공정 큐 키
+    @Column(name = "requested_by", length = 128)
+    private String requestedBy;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        QUEUED,      // 워커 대기
+        PROCESSING,  // 프로젝트/EXPORT 생성 중
+        EXPORTING,   // Perso export 진행 중 (웹훅/sweep 대기)
+        FINALIZING,  // 결과 다운로드/저장 중
+        COMPLETED,
+        FAILED
+    }
+
+    public enum Priority {
+        INTERACTIVE, // 사용자 단건 요청
+        BULK         // 카탈로그 일괄 등록
+    }
+
+    /** 대상 언어 1개당 job 1개 */
+    public static TranslationJob from(TranslateRequest req, String targetLang) {
+        LocalDateTime now = LocalDateTime.now();
+        return TranslationJob.builder()
+                .status(Status.QUEUED)
+                .priority(Priority.INTERACTIVE)
+                .inputFileUrl(req.getInputFileUrl())
+                .title(req.getTitle())
+                .sourceLang(req.getSourceLang())
+                .targetLang(targetLang)
+                .lipsync(req.isLipsync())
+                .watermark(req.isWatermark())
+                .durationSec(req.getDurationSec())
+                .numberOfSpeakers(req.getNumberOfSpeakers())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /** 저장된 파라미터로 번역 요청 복원 */
+    public TranslateRequest toRequest() {
+        TranslateRequest req = new TranslateRequest();
+        req.setInputFileUrl(inputFileUrl);
+        req.setTitle(title);
+        req.setSourceLang(sourceLang);
+        req.setTargetLang(targetLang);
+        req.setLipsync(lipsync);
+        req.setWatermark(watermark);
+        req.setDurationSec(durationSec);
+        req.setNumberOfSpeakers(numberOfSpeakers);
+        return req;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
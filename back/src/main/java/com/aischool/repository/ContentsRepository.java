@@ -26,6 +26,15 @@ public interface ContentsRepository extends JpaRepository<Contents, Integer> {
 
     Optional<Contents> findFirstByTitleIgnoreCaseAndLanguageAndParentIdIsNull(String title, String language);
 
+    // ✅ 같은 원본(sourceKey) + 같은 언어로 이미 완료된 번역본 (중복 번역 방지)
+    Optional<Contents> findFirstBySourceKeyAndLanguageAndParentIdIsNotNullAndCompletedAtIsNotNullOrderByCompletedAtDesc(
+            String sourceKey, String language);
+
+    Optional<Contents> findFirstByExportIdAndParentIdIsNotNull(String exportId);
+
+    // ✅ 영상 대기 중인 번역본 (스크립트 선저장 row 재사용)
+    Optional<Contents> findFirstByParentIdAndLanguageAndStatus(Integer parentId, String language, Contents.Status status);
+
     List<Contents> findByParentIdIn(Collection<Integer> parentIds);
 
     List<Contents> findByParentId(Integer parentId);
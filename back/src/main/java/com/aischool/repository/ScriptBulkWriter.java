@@ -0,0 +1,55 @@
+package com.aischool.repository;
+
+import com.aischool.entity.Script;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스크립트 대량 저장 (JDBC batch + upsert)
+ * - Script 는 IDENTITY 라 saveAll 이 줄마다 INSERT 1회 → 여기서는 batchUpdate 로 묶어서 전송
+ *   (JDBC URL 의 rewriteBatchedStatements=true 로 MySQL 에는 multi-row INSERT 로 나감)
+ * - uk_script_line_lang(contents_id, order_no, language) 충돌 시 기존 줄을 덮어씀 → 재번역해도 실패하지 않음
+ */
+@Slf4j
+@Repository
+public class ScriptBulkWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO script (contents_id, order_no, start_ms, end_ms, language, text, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE start_ms = VALUES(start_ms), end_ms = VALUES(end_ms), "
+                    + "text = VALUES(text)";
+
+    private final JdbcTemplate jdbc;
+    private final int batchSize;
+
+    public ScriptBulkWriter(JdbcTemplate jdbc,
+                            @Value("${translation.script.batch-size:500}") int batchSize) {
+        this.jdbc = jdbc;
+        this.batchSize = batchSize;
+    }
+
+    /** contentsId 가 채워진 스크립트 row 들을 upsert (호출 측 트랜잭션에 참여) */
+    public void upsertAll(List<Script> scripts) {
+        if (scripts == null || scripts.isEmpty()) return;
+        jdbc.batchUpdate(UPSERT_SQL, scripts, batchSize, (ps, s) -> {
+            ps.setInt(1, s.getContentsId());
+            ps.setInt(2, s.getOrderNo());
+            ps.setInt(3, s.getStartMs());
+            ps.setInt(4, s.getEndMs());
+            ps.setString(5, s.getLanguage());
+            if (s.getText() != null) ps.setString(6, s.getText());
+            else ps.setNull(6, Types.LONGVARCHAR);
+            LocalDateTime createdAt = s.getCreatedAt() != null ? s.getCreatedAt() : LocalDateTime.now();
+            ps.setTimestamp(7, Timestamp.valueOf(createdAt));
+        });
+        log.debug("[Script] upserted {} rows (batch size {})", scripts.size(), batchSize);
+    }
+}
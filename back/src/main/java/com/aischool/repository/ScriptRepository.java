@@ -2,6 +2,9 @@ package com.aischool.repository;
 
 import com.aischool.entity.Script;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +15,9 @@ public interface ScriptRepository extends JpaRepository<Script, Integer> {
 
     // ✅ 특정 언어로 필터링 (예: 한글/영어 등)
     List<Script> findByContentsIdAndLanguageOrderByOrderNoAsc(Integer contentsId, String language);
+
+    // ✅ 실패한 번역의 선저장 스크립트 정리 (한 번에 삭제)
+    @Modifying
+    @Query("DELETE FROM Script s WHERE s.contentsId = :contentsId")
+    int deleteByContentsId(@Param("contentsId") Integer contentsId);
 }
@@ -0,0 +1,51 @@
+package com.aischool.repository;
+
+import com.aischool.entity.TranslationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TranslationJobRepository extends JpaRepository<TranslationJob, Long> {
+
+    Optional<TranslationJob> findFirstByExportId(String exportId);
+
+    List<TranslationJob> findByStatus(TranslationJob.Status status);
+
+    List<TranslationJob> findByStatusIn(Collection<TranslationJob.Status> statuses);
+
+    // ✅ ETA 예측 초기화용 최근 export 실측값
+    List<TranslationJob> findTop500ByStatusAndExportFinishedAtIsNotNullOrderByExportFinishedAtDesc(
+            TranslationJob.Status status);
+
+    // ✅ 웹훅/sweep 이 동시에 완료를 감지해도 한 번만 처리되도록 상태 선점
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE TranslationJob j
+        SET j.status = :to, j.updatedAt = :now
+        WHERE j.jobId = :jobId AND j.status = :from
+    """)
+    int transition(@Param("jobId") Long jobId,
+                   @Param("from") TranslationJob.Status from,
+                   @Param("to") TranslationJob.Status to,
+                   @Param("now") LocalDateTime now);
+
+    // ✅ 스크립트 선저장 시 번역본 연결 (다른 경로의 상태 변경을 덮어쓰지 않도록 컬럼만 갱신)
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE TranslationJob j
+        SET j.contentsId = :contentsId, j.updatedAt = :now
+        WHERE j.jobId = :jobId AND j.contentsId IS NULL
+    """)
+    int attachContents(@Param("jobId") Long jobId,
+                       @Param("contentsId") Integer contentsId,
+                       @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package com.aischool.scheduler;
+
+import com.aischool.service.TranslationJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공용 poller 가 추적하지 않는 EXPORTING job 을 다시 연결하는 느린 안전망
+ * - 기본 5분마다 실행 (DB 조회만, Perso 호출은 poller 가 담당)
+ */
+@Component
+@RequiredArgsConstructor
+public class PersoExportSweeper {
+
+    private final TranslationJobService jobService;
+
+    @Scheduled(
+            initialDelayString = "${translation.export.sweep-initial-delay-ms:60000}",
+            fixedDelayString = "${translation.export.sweep-interval-ms:300000}")
+    public void sweep() {
+        jobService.adoptUntrackedExports();
+    }
+}
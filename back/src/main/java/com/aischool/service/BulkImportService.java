@@ -0,0 +1,425 @@
+package com.aischool.service;
+
+import com.aischool.dto.BulkImportEvent;
+import com.aischool.dto.BulkImportReport;
+import com.aischool.dto.TranslateRequest;
+import com.aischool.dto.TranslationJobResponse;
+import com.aischool.entity.TranslationJob;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 카탈로그 일괄 등록 (CSV/JSON manifest → 번역 파이프라인)
+ * - 같은 원본(sourceKey) 행은 하나로 합치고 대상 언어만 모음
+ * - 동시에 진행하는 행 수를 maxInFlight 로 제한 (나머지 사용자 요청을 밀어내지 않도록 BULK 우선순위로 접수)
+ * - 행별 접수/종료 이벤트를 listener 로 흘리고, 마지막에 리포트 이벤트 전송
+ * - 클라이언트 연결이 끊겨도 등록은 끝까지 진행되며 리포트는 importId 로 다시 조회 가능
+ */
+@Service
+@Slf4j
+public class BulkImportService {
+
+    private static final int KEEP_RECENT = 50;
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private final TranslationJobService jobService;
+    private final TranslationService translationService;
+    private final TranslationScheduler scheduler;
+    private final ObjectMapper objectMapper;
+    private final int maxInFlight;
+    private final int maxRows;
+    private final int queueRetries;
+    private final long queueRetryDelayMs;
+
+    private final ExecutorService runners = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "bulk-import");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<String, ImportRun> recent = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportRun> eldest) {
+            return size() > KEEP_RECENT;
+        }
+    });
+
+    public BulkImportService(
+            TranslationJobService jobService,
+            TranslationService translationService,
+            TranslationScheduler scheduler,
+            ObjectMapper objectMapper,
+            @Value("${translation.bulk.max-in-flight:8}") int maxInFlight,
+            @Value("${translation.bulk.max-rows:1000}") int maxRows,
+            @Value("${translation.bulk.queue-retries:3}") int queueRetries,
+            @Value("${translation.bulk.queue-retry-delay-ms:10000}") long queueRetryDelayMs
+    ) {
+        this.jobService = jobService;
+        this.translationService = translationService;
+        this.scheduler = scheduler;
+        this.objectMapper = objectMapper;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxRows = maxRows;
+        this.queueRetries = Math.max(0, queueRetries);
+        this.queueRetryDelayMs = queueRetryDelayMs;
+    }
+
+    /**
+     * manifest 파싱
+     * - JSON: TranslateRequest 배열 또는 {"items": [...]}
+     * - CSV: 헤더 필수 (input_file_url, title, source_language, target_languages, lipsync, watermark, duration_sec, number_of_speakers)
+     *   target_languages 는 ; 또는 | 로 구분
+     */
+    public List<TranslateRequest> parse(String body, boolean csv) {
+        if (body == null || body.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty manifest");
+        }
+        List<TranslateRequest> rows;
+        try {
+            rows = csv ? parseCsv(body) : parseJson(body);
+        } catch (ResponseStatusException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid manifest: " + e.getMessage());
+        }
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Manifest has no rows");
+        }
+        if (rows.size() > maxRows) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Manifest has " + rows.size() + " rows (max " + maxRows + ")");
+        }
+        return rows;
+    }
+
+    /**
+     * 일괄 등록 시작 (백그라운드 실행)
+     * @param listener 진행 이벤트 수신 (여러 스레드에서 호출될 수 있음, 예외는 무시)
+     * @return importId
+     */
+    public String start(List<TranslateRequest> manifest, String requestedBy, Consumer<BulkImportEvent> listener) {
+        ImportRun run = new ImportRun(UUID.randomUUID().toString(), requestedBy, listener);
+        Map<String, RowState> bySource = new HashMap<>();
+        for (int i = 0; i < manifest.size(); i++) {
+            RowState row = new RowState(i + 1, manifest.get(i));
+            run.rows.add(row);
+            TranslateRequest req = row.req;
+            String sourceKey = translationService.sourceKeyOf(req);
+            if (sourceKey == null || req.resolveTargetLangs().isEmpty()) {
+                row.status = "INVALID";
+                row.message = "input_file_url and target_language(s) are required";
+                continue;
+            }
+            RowState first = bySource.putIfAbsent(sourceKey, row);
+            if (first != null) {
+                // 같은 원본 → 첫 행에 대상 언어만 합침 (Perso 프로젝트 1개로 처리)
+                Set<String> langs = new LinkedHashSet<>(first.req.resolveTargetLangs());
+                langs.addAll(req.resolveTargetLangs());
+                first.req.setTargetLang(null);
+                first.req.setTargetLangs(new ArrayList<>(langs));
+                row.status = "DUPLICATE";
+                row.message = "row " + first.index + " 에 합쳐짐";
+            }
+        }
+        recent.put(run.id, run);
+        log.info("[Bulk] import={} by={} rows={} unique={}", run.id, requestedBy, manifest.size(), bySource.size());
+        runners.execute(() -> execute(run));
+        return run.id;
+    }
+
+    public Optional<BulkImportReport> report(String importId) {
+        return Optional.ofNullable(recent.get(importId)).map(ImportRun::snapshot);
+    }
+
+    /** 동시에 maxInFlight 행까지만 진행, 한 행이 끝나면 다음 행 접수 */
+    private void execute(ImportRun run) {
+        Semaphore lanes = new Semaphore(maxInFlight);
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        try {
+            for (RowState row : run.rows) {
+                if (!"PENDING".equals(row.status)) continue;
+                lanes.acquire();
+                CompletableFuture<Void> done = submitRow(run, row);
+                done.whenComplete((v, e) -> lanes.release());
+                pending.add(done);
+            }
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            log.warn("[Bulk] import={} interrupted", run.id);
+        } catch (Exception e) {
+            log.error("[Bulk] import={} aborted: {}", run.id, e.getMessage(), e);
+        }
+        run.finishedAt = LocalDateTime.now();
+        BulkImportReport report = run.snapshot();
+        log.info("[Bulk] import={} done: completed={} failed={} duplicates={} in {}ms",
+                run.id, report.getCompleted(), report.getFailed(), report.getDuplicates(), report.getElapsedMs());
+        run.emit(BulkImportEvent.builder().type("REPORT").importId(run.id).report(report).build());
+    }
+
+    /** 한 행 접수 → 모든 언어 job 이 끝나면 완료되는 future */
+    private CompletableFuture<Void> submitRow(ImportRun run, RowState row) {
+        List<TranslationJob> jobs;
+        try {
+            jobs = submitWithRetry(row.req, run.requestedBy);
+        } catch (Exception e) {
+            run.update(row, "FAILED", errorMessage(e), List.of());
+            run.emitRow("ROW_FINISHED", row);
+            return CompletableFuture.completedFuture(null);
+        }
+        run.update(row, "SUBMITTED", null, jobs);
+        run.emitRow("ROW_SUBMITTED", row);
+
+        List<CompletableFuture<TranslationJob>> waits = jobs.stream()
+                .map(job -> jobService.whenFinished(job.getJobId()))
+                .toList();
+        // job 종료 스레드(워커/poller)를 붙잡지 않도록 이벤트 전송은 runners 에서
+        return CompletableFuture.allOf(waits.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> {
+                    List<TranslationJob> finished = waits.stream().map(CompletableFuture::join).toList();
+                    String error = finished.stream()
+                            .filter(job -> job.getStatus() != TranslationJob.Status.COMPLETED)
+                            .map(job -> job.getTargetLang() + ": " + job.getErrorMessage())
+                            .findFirst()
+                            .orElse(null);
+                    run.update(row, error == null ? "COMPLETED" : "FAILED", error, finished);
+                    run.emitRow("ROW_FINISHED", row);
+                }, runners);
+    }
+
+    /**
+     * 스케줄러 대기열이 가득 차면 잠시 후 다시 접수
+     * - job row 를 만들기 전에 대기열 여유를 먼저 확인 (가득 찬 시도마다 FAILED job 이 쌓이지 않도록)
+     * - 확인 직후 다른 요청이 자리를 채운 경우에만 submit 이 거절됨 (그 시도의 job 은 FAILED 로 남음)
+     */
+    private List<TranslationJob> submitWithRetry(TranslateRequest req, String requestedBy) throws InterruptedException {
+        int jobCount = req.resolveTargetLangs().size();
+        for (int attempt = 0; ; attempt++) {
+            if (scheduler.hasRoom(jobCount)) {
+                try {
+                    return jobService.submit(req, requestedBy, TranslationJob.Priority.BULK);
+                } catch (ResponseStatusException e) {
+                    if (e.getStatusCode() != HttpStatus.SERVICE_UNAVAILABLE || attempt >= queueRetries) throw e;
+                }
+            } else if (attempt >= queueRetries) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Translation queue is full");
+            }
+            log.warn("[Bulk] translation queue full, retrying {} in {}ms", req.getInputFileUrl(), queueRetryDelayMs);
+            Thread.sleep(queueRetryDelayMs);
+        }
+    }
+
+    private List<TranslateRequest> parseJson(String body) throws Exception {
+        JsonNode root = objectMapper.readTree(body);
+        JsonNode items = root.isObject() ? root.path("items") : root;
+        if (!items.isArray()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "JSON manifest must be an array or {\"items\": [...]}");
+        }
+        List<TranslateRequest> rows = new ArrayList<>();
+        for (JsonNode item : items) rows.add(objectMapper.treeToValue(item, TranslateRequest.class));
+        return rows;
+    }
+
+    private static List<TranslateRequest> parseCsv(String body) {
+        List<List<String>> records = readCsv(body);
+        if (records.isEmpty()) return List.of();
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = records.get(0);
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(Locale.ROOT).replace('-', '_'), i);
+        }
+        if (!header.containsKey("input_file_url")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must include input_file_url");
+        }
+
+        List<TranslateRequest> rows = new ArrayList<>();
+        for (List<String> rec : records.subList(1, records.size())) {
+            if (rec.stream().allMatch(String::isBlank)) continue;
+            TranslateRequest req = new TranslateRequest();
+            req.setInputFileUrl(column(rec, header, "input_file_url"));
+            req.setTitle(column(rec, header, "title"));
+            req.setThumbUrl(column(rec, header, "thumb_url"));
+            req.setSourceLang(column(rec, header, "source_language"));
+            req.setTargetLang(column(rec, header, "target_language"));
+            String langs = column(rec, header, "target_languages");
+            if (langs != null) req.setTargetLangs(List.of(langs.split("[;|]")));
+            String lipsync = column(rec, header, "lipsync");
+            if (lipsync != null) req.setLipsync(Boolean.parseBoolean(lipsync));
+            String watermark = column(rec, header, "watermark");
+            if (watermark != null) req.setWatermark(Boolean.parseBoolean(watermark));
+            String duration = column(rec, header, "duration_sec");
+            if (duration != null) req.setDurationSec(Integer.valueOf(duration));
+            String speakers = column(rec, header, "number_of_speakers");
+            if (speakers != null) req.setNumberOfSpeakers(Integer.valueOf(speakers));
+            rows.add(req);
+        }
+        return rows;
+    }
+
+    private static String column(List<String> rec, Map<String, Integer> header, String name) {
+        Integer idx = header.get(name);
+        if (idx == null || idx >= rec.size()) return null;
+        String value = rec.get(idx).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /** RFC 4180 수준의 CSV 읽기 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프) */
+    private static List<List<String>> readCsv(String body) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int start = body.charAt(0) == '\uFEFF' ? 1 : 0;   // 엑셀 BOM
+        for (int i = start; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < body.length() && body.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                current.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < body.length() && body.charAt(i + 1) == '\n') i++;
+                current.add(field.toString());
+                field.setLength(0);
+                records.add(current);
+                current = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (field.length() > 0 || !current.isEmpty()) {
+            current.add(field.toString());
+            records.add(current);
+        }
+        return records;
+    }
+
+    private static String errorMessage(Throwable e) {
+        String msg = (e instanceof ResponseStatusException rse && rse.getReason() != null)
+                ? rse.getReason()
+                : Optional.ofNullable(e.getMessage()).orElse(e.getClass().getSimpleName());
+        return msg.length() > MAX_MESSAGE_LENGTH ? msg.substring(0, MAX_MESSAGE_LENGTH) : msg;
+    }
+
+    private static final class RowState {
+        final int index;
+        final TranslateRequest req;
+        String status = "PENDING";
+        String message;
+        List<TranslationJob> jobs = List.of();
+
+        RowState(int index, TranslateRequest req) {
+            this.index = index;
+            this.req = req;
+        }
+    }
+
+    private static final class ImportRun {
+        final String id;
+        final String requestedBy;
+        final Consumer<BulkImportEvent> listener;
+        final List<RowState> rows = new ArrayList<>();
+        final LocalDateTime startedAt = LocalDateTime.now();
+        volatile LocalDateTime finishedAt;
+
+        ImportRun(String id, String requestedBy, Consumer<BulkImportEvent> listener) {
+            this.id = id;
+            this.requestedBy = requestedBy;
+            this.listener = listener;
+        }
+
+        synchronized void update(RowState row, String status, String message, List<TranslationJob> jobs) {
+            row.status = status;
+            row.message = message;
+            row.jobs = List.copyOf(jobs);
+        }
+
+        void emitRow(String type, RowState row) {
+            emit(BulkImportEvent.builder().type(type).importId(id).row(toRow(row)).build());
+        }
+
+        void emit(BulkImportEvent event) {
+            if (listener == null) return;
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.debug("[Bulk] import={} listener failed: {}", id, e.getMessage());
+            }
+        }
+
+        synchronized BulkImportReport snapshot() {
+            int submitted = 0, completed = 0, failed = 0, duplicates = 0;
+            List<BulkImportReport.Row> out = new ArrayList<>(rows.size());
+            for (RowState row : rows) {
+                switch (row.status) {
+                    case "COMPLETED" -> { submitted++; completed++; }
+                    case "FAILED" -> { submitted++; failed++; }
+                    case "SUBMITTED" -> submitted++;
+                    case "INVALID" -> failed++;
+                    case "DUPLICATE" -> duplicates++;
+                    default -> { }
+                }
+                out.add(toRow(row));
+            }
+            LocalDateTime end = (finishedAt != null) ? finishedAt : LocalDateTime.now();
+            return BulkImportReport.builder()
+                    .importId(id)
+                    .status(finishedAt != null ? "DONE" : "RUNNING")
+                    .total(rows.size())
+                    .submitted(submitted)
+                    .completed(completed)
+                    .failed(failed)
+                    .duplicates(duplicates)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .elapsedMs(Duration.between(startedAt, end).toMillis())
+                    .rows(out)
+                    .build();
+        }
+
+        private synchronized BulkImportReport.Row toRow(RowState row) {
+            return BulkImportReport.Row.builder()
+                    .rowIndex(row.index)
+                    .inputFileUrl(row.req.getInputFileUrl())
+                    .title(row.req.getTitle())
+                    .targetLangs(row.req.resolveTargetLangs())
+                    .status(row.status)
+                    .message(row.message)
+                    .jobs(row.jobs.stream().map(TranslationJobResponse::from).toList())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.aischool.service;
+
+import com.aischool.entity.TranslationJob;
+import com.aischool.repository.TranslationJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Perso export 소요 시간 예측 (과거 export 실측값 기반)
+ * - 버킷 = 립싱크 여부 + 대상 언어 + 영상 길이 구간 (완료 job 은 completeExport 가 채운 실제 길이 기준)
+ *   길이를 모르는 job 은 구간 대신 unknown 버킷
+ * - 버킷별 최근 WINDOW 개 실측값의 p50/p90 을 사용 (표본 부족 시 립싱크 여부별 "영상 1초당 소요 시간" 으로 환산)
+ * - p50/p90 은 record() 때 다시 계산해 두고 estimate() 는 캐시만 읽음 (poller 확인마다 정렬하지 않도록)
+ * - 기동 시 완료된 job 의 export 시작/종료 시각으로 다시 채움
+ */
+@Component
+@Slf4j
+public class ExportEtaEstimator {
+
+    private static final int WINDOW = 200;
+    private static final int MIN_SAMPLES = 5;
+    private static final int[] DURATION_BUCKETS_SEC = {60, 180, 600, 1800};
+
+    /** 예상 소요 시간 (export 시작 기준, ms) */
+    public record Eta(long p50Ms, long p90Ms, int samples) {
+    }
+
+    private final TranslationJobRepository jobRepo;
+    private final Map<String, Window> wallByBucket = new HashMap<>();
+    private final Map<Boolean, Window> msPerVideoSec = new HashMap<>();
+
+    public ExportEtaEstimator(TranslationJobRepository jobRepo) {
+        this.jobRepo = jobRepo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUp() {
+        try {
+            var jobs = jobRepo.findTop500ByStatusAndExportFinishedAtIsNotNullOrderByExportFinishedAtDesc(
+                    TranslationJob.Status.COMPLETED);
+            // 오래된 것부터 넣어야 최근 값이 윈도우에 남음
+            for (int i = jobs.size() - 1; i >= 0; i--) record(jobs.get(i));
+            log.info("[ETA] loaded {} historical export samples", jobs.size());
+        } catch (Exception e) {
+            log.warn("[ETA] failed to load export history: {}", e.getMessage());
+        }
+    }
+
+    /** export 시작/종료 시각이 기록된 job 의 실측값 반영 */
+    public void record(TranslationJob job) {
+        if (job.getExportStartedAt() == null || job.getExportFinishedAt() == null) return;
+        long wallMs = Duration.between(job.getExportStartedAt(), job.getExportFinishedAt()).toMillis();
+        if (wallMs <= 0) return;
+
+        synchronized (this) {
+            wallByBucket.computeIfAbsent(bucket(job), k -> new Window()).add(wallMs);
+            Integer duration = job.getDurationSec();
+            if (duration != null && duration > 1) {
+                msPerVideoSec.computeIfAbsent(job.isLipsync(), k -> new Window()).add((double) wallMs / duration);
+            }
+        }
+    }
+
+    /** 예상 소요 시간 (근거 데이터가 없으면 empty) */
+    public synchronized Optional<Eta> estimate(TranslationJob job) {
+        Window samples = wallByBucket.get(bucket(job));
+        if (samples != null && samples.size() >= MIN_SAMPLES) {
+            return Optional.of(new Eta((long) samples.p50, (long) samples.p90, samples.size()));
+        }
+
+        Window ratios = msPerVideoSec.get(job.isLipsync());
+        Integer duration = job.getDurationSec();
+        if (ratios != null && ratios.size() >= MIN_SAMPLES && duration != null && duration > 1) {
+            return Optional.of(new Eta((long) (ratios.p50 * duration), (long) (ratios.p90 * duration), ratios.size()));
+        }
+        return Optional.empty();
+    }
+
+    /** EXPORTING job 의 예상 완료 시각 (p50 기준) */
+    public Optional<LocalDateTime> expectedCompletionAt(TranslationJob job) {
+        if (job.getStatus() != TranslationJob.Status.EXPORTING || job.getExportStartedAt() == null) {
+            return Optional.empty();
+        }
+        return estimate(job).map(eta -> job.getExportStartedAt().plus(Duration.ofMillis(eta.p50Ms())));
+    }
+
+    private static String bucket(TranslationJob job) {
+        String lang = job.getTargetLang() == null ? "" : job.getTargetLang().toLowerCase(Locale.ROOT);
+        Integer duration = job.getDurationSec();
+        if (duration == null || duration <= 1) {
+            // 길이를 모르는 job 을 짧은 영상 구간에 섞지 않도록 별도 버킷
+            return job.isLipsync() + "|" + lang + "|unknown";
+        }
+        int range = 0;
+        while (range < DURATION_BUCKETS_SEC.length && duration > DURATION_BUCKETS_SEC[range]) range++;
+        return job.isLipsync() + "|" + lang + "|" + range;
+    }
+
+    /** 최근 WINDOW 개 값 + 그 p50/p90 (값이 들어올 때만 다시 계산, 외부 동기화 필요) */
+    private static final class Window {
+        private final Deque<Double> values = new ArrayDeque<>();
+        private double p50;
+        private double p90;
+
+        void add(double value) {
+            values.addLast(value);
+            if (values.size() > WINDOW) values.removeFirst();
+            double[] sorted = values.stream().mapToDouble(Double::doubleValue).toArray();
+            Arrays.sort(sorted);
+            p50 = percentile(sorted, 0.5);
+            p90 = percentile(sorted, 0.9);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    private static double percentile(double[] sorted, double q) {
+        int idx = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,256 @@
+package com.aischool.service;
+
+import com.aischool.client.PersoClient;
+import com.aischool.dto.PersoExportResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 진행 중인 모든 Perso export 의 상태를 하나의 스레드에서 확인하는 공용 poller
+ * - 다음 확인 시각 기준 우선순위 큐(DelayQueue)로 관리
+ * - export 별 지수 backoff + jitter, Perso 전체 요청은 초당 maxRequestsPerSecond 이하
+ * - 완료/실패 시 export 별 CompletableFuture 를 완료 → 호출자는 future 로 대기 (진행 중 응답은 onStatus 로 전달)
+ * - 웹훅 수신 시 checkNow 로 해당 export 를 즉시 확인 대상으로 당김
+ * - ETA(과거 실측 p50/p90)가 있으면 예상 구간 전에는 드물게, 구간 안에서는 denseDelayMs 간격으로 확인
+ *   예상 구간(p90)을 넘기면 일반 backoff 로 복귀
+ */
+@Component
+@Slf4j
+public class ExportStatusPoller {
+
+    private final PersoClient perso;
+    private final DelayQueue<PendingExport> queue = new DelayQueue<>();
+    private final Map<String, PendingExport> pending = new ConcurrentHashMap<>();
+
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final double multiplier;
+    private final double jitter;
+    private final long minIntervalNanos;
+    private final long timeoutMs;
+    private final long denseDelayMs;
+    private final double windowStartRatio;
+
+    private Thread worker;
+    private long lastRequestNanos;
+
+    public ExportStatusPoller(
+            PersoClient perso,
+            @Value("${perso.poller.initial-delay-ms:15000}") long initialDelayMs,
+            @Value("${perso.poller.max-delay-ms:300000}") long maxDelayMs,
+            @Value("${perso.poller.multiplier:1.5}") double multiplier,
+            @Value("${perso.poller.jitter:0.2}") double jitter,
+            @Value("${perso.poller.max-requests-per-second:2}") double maxRequestsPerSecond,
+            @Value("${perso.poller.timeout-ms:21600000}") long timeoutMs,
+            @Value("${perso.poller.dense-delay-ms:10000}") long denseDelayMs,
+            @Value("${perso.poller.window-start-ratio:0.8}") double windowStartRatio
+    ) {
+        this.perso = perso;
+        this.initialDelayMs = initialDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.minIntervalNanos = (long) (1_000_000_000L / maxRequestsPerSecond);
+        this.timeoutMs = timeoutMs;
+        this.denseDelayMs = denseDelayMs;
+        this.windowStartRatio = windowStartRatio;
+    }
+
+    @PostConstruct
+    void start() {
+        worker = new Thread(this::run, "perso-export-poller");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker != null) worker.interrupt();
+    }
+
+    /**
+     * export 추적 시작 (이미 추적 중이면 같은 future 반환)
+     * @param startedAt export 생성 시각 (epoch ms)
+     * @param eta       예상 소요 시간 (없으면 null → 일반 backoff)
+     * @param onStatus  아직 진행 중인 getExport 응답 수신 시 호출 (없으면 null, poller 스레드에서 호출되므로 가볍게)
+     * @return status=COMPLETED 인 getExport 응답으로 완료되는 future
+     */
+    public CompletableFuture<PersoExportResponse> track(String exportId, long startedAt, ExportEtaEstimator.Eta eta,
+                                                       Consumer<PersoExportResponse> onStatus) {
+        PendingExport entry = pending.computeIfAbsent(exportId, id -> {
+            PendingExport p = new PendingExport(id, System.currentTimeMillis(), startedAt, eta);
+            p.nextCheckAt = p.trackedAt + nextDelay(p, initialDelayMs);
+            queue.add(p);
+            log.debug("[Poller] tracking export {}", id);
+            return p;
+        });
+        if (onStatus != null) entry.listeners.add(onStatus);
+        return entry.future;
+    }
+
+    public boolean isTracking(String exportId) {
+        return pending.containsKey(exportId);
+    }
+
+    /** 웹훅 등으로 완료 가능성이 높을 때 다음 확인을 즉시로 당김 */
+    public boolean checkNow(String exportId) {
+        PendingExport entry = pending.get(exportId);
+        if (entry == null) return false;
+        if (queue.remove(entry)) {
+            entry.nextCheckAt = System.currentTimeMillis();
+            queue.add(entry);
+        }
+        return true;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                PendingExport entry = queue.take();
+                throttle();
+                poll(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("[Poller] unexpected error", e);
+            }
+        }
+    }
+
+    /** 전체 요청 간격을 minIntervalNanos 이상으로 유지 */
+    private void throttle() throws InterruptedException {
+        long wait = lastRequestNanos + minIntervalNanos - System.nanoTime();
+        if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+        lastRequestNanos = System.nanoTime();
+    }
+
+    private void poll(PendingExport entry) {
+        String exportId = entry.exportId;
+        try {
+            // 재시도/토큰 대기 없이 1회 (한 export 가 poller 스레드를 붙잡지 않도록, 실패하면 아래에서 다시 예약)
+            PersoExportResponse now = perso.pollExport(exportId);
+            String status = now.status();
+            if (now.isCompleted()) {
+                finish(entry);
+                entry.future.complete(now);
+                return;
+            }
+            if (now.isFailed()) {
+                String reason = now.failureMessage();
+                log.error("[Perso] export {} failed. reason={} payload={}", exportId, reason, now);
+                finish(entry);
+                entry.future.completeExceptionally(new IllegalStateException("Perso export failed: " + reason));
+                return;
+            }
+            log.debug("[Poller] export {} status={} (attempt {})", exportId, status, entry.attempt);
+            notifyStatus(entry, now);
+        } catch (Exception e) {
+            log.warn("[Poller] getExport {} failed: {}", exportId, e.getMessage());
+        }
+
+        if (System.currentTimeMillis() - entry.trackedAt > timeoutMs) {
+            finish(entry);
+            entry.future.completeExceptionally(
+                    new TimeoutException("Perso export " + exportId + " did not finish in " + timeoutMs + "ms"));
+            return;
+        }
+        reschedule(entry);
+    }
+
+    private void reschedule(PendingExport entry) {
+        entry.attempt++;
+        double base = initialDelayMs * Math.pow(multiplier, entry.attempt);
+        long backoff = (long) Math.min(base, maxDelayMs);
+        entry.nextCheckAt = System.currentTimeMillis() + nextDelay(entry, backoff);
+        queue.add(entry);
+    }
+
+    /**
+     * 다음 확인까지 대기 시간
+     * - 예상 구간 전: 구간 시작까지 한 번에 건너뜀 (최대 maxDelayMs)
+     * - 예상 구간 안(p50*windowStartRatio ~ p90): denseDelayMs
+     * - ETA 없음 / 구간 초과: backoff
+     */
+    private long nextDelay(PendingExport entry, long backoff) {
+        ExportEtaEstimator.Eta eta = entry.eta;
+        if (eta == null) return withJitter(backoff);
+
+        long elapsed = System.currentTimeMillis() - entry.startedAt;
+        long windowStart = (long) (eta.p50Ms() * windowStartRatio);
+        if (elapsed < windowStart) {
+            return withJitter(Math.min(Math.max(windowStart - elapsed, initialDelayMs), maxDelayMs));
+        }
+        if (elapsed <= eta.p90Ms()) {
+            return withJitter(denseDelayMs);
+        }
+        return withJitter(backoff);
+    }
+
+    private static void notifyStatus(PendingExport entry, PersoExportResponse now) {
+        for (Consumer<PersoExportResponse> listener : entry.listeners) {
+            try {
+                listener.accept(now);
+            } catch (Exception e) {
+                log.debug("[Poller] status listener failed for export {}: {}", entry.exportId, e.getMessage());
+            }
+        }
+    }
+
+    private void finish(PendingExport entry) {
+        pending.remove(entry.exportId, entry);
+    }
+
+    /** ±jitter 비율만큼 무작위 분산 (동시에 생성된 export 들이 한꺼번에 몰리지 않도록) */
+    private long withJitter(long delayMs) {
+        if (jitter <= 0) return delayMs;
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(0, (long) (delayMs * factor));
+    }
+
+    private static final class PendingExport implements Delayed {
+        final String exportId;
+        final long trackedAt;
+        final long startedAt;
+        final ExportEtaEstimator.Eta eta;
+        final CompletableFuture<PersoExportResponse> future = new CompletableFuture<>();
+        final List<Consumer<PersoExportResponse>> listeners = new CopyOnWriteArrayList<>();
+        int attempt;
+        volatile long nextCheckAt;
+
+        PendingExport(String exportId, long trackedAt, long startedAt, ExportEtaEstimator.Eta eta) {
+            this.exportId = exportId;
+            this.trackedAt = trackedAt;
+            this.startedAt = startedAt;
+            this.eta = eta;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(nextCheckAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(nextCheckAt, ((PendingExport) other).nextCheckAt);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.aischool.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ffmpeg 실행 관리
+ * - 실행 파일은 기동 시 한 번만 찾고 -version 으로 검증 (변환마다 probe 프로세스를 띄우지 않음)
+ * - 동시 변환 수를 세마포어로 제한 (기본 CPU 코어 수), 자리가 나지 않으면 queueTimeoutMs 후 실패
+ * - 작업별 wall-clock 타임아웃 → destroyForcibly 로 강제 종료 (파이프가 닫혀 I/O 스레드도 함께 풀림)
+ * - stdin 공급/stderr 수집은 공용 I/O 풀, stdout 처리는 호출 스레드
+ * - 대기 시간/실행 시간/동시 실행 수는 ffmpeg.* 메트릭으로 노출
+ */
+@Service
+@Slf4j
+public class FfmpegService {
+
+    private static final int STDERR_TAIL_BYTES = 4 * 1024;
+    private static final long PROBE_TIMEOUT_SECONDS = 10;
+
+    /** stdout 처리 (호출 스레드에서 실행) */
+    @FunctionalInterface
+    public interface OutputHandler<T> {
+        T handle(InputStream stdout) throws Exception;
+    }
+
+    /** 실행 결과 (stdout 처리 결과 + 종료 코드 + stderr 끝부분) */
+    public record Execution<T>(T value, int exitCode, String stderr) {
+        public boolean succeeded() {
+            return exitCode == 0;
+        }
+    }
+
+    private final MeterRegistry meters;
+    private final String configuredPath;
+    private final int maxConcurrent;
+    private final long timeoutMs;
+    private final long queueTimeoutMs;
+
+    private final Semaphore permits;
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile String binary;
+
+    private final ExecutorService io = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "ffmpeg-io");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ffmpeg-watchdog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public FfmpegService(
+            MeterRegistry meters,
+            @Value("${ffmpeg.path:ffmpeg}") String configuredPath,
+            @Value("${ffmpeg.max-concurrent:0}") int maxConcurrent,
+            @Value("${ffmpeg.timeout-ms:60000}") long timeoutMs,
+            @Value("${ffmpeg.queue-timeout-ms:30000}") long queueTimeoutMs
+    ) {
+        this.meters = meters;
+        this.configuredPath = configuredPath;
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        this.timeoutMs = timeoutMs;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.permits = new Semaphore(this.maxConcurrent, true);
+
+        Gauge.builder("ffmpeg.active", running, AtomicInteger::get).register(meters);
+        Gauge.builder("ffmpeg.queued", permits, Semaphore::getQueueLength).register(meters);
+    }
+
+    @PostConstruct
+    void resolve() {
+        binary = findFfmpeg();
+        if (binary == null) {
+            log.warn("[FFmpeg] binary not found (ffmpeg.path={}), /api/tutor/analyze will fail until installed",
+                    configuredPath);
+        } else {
+            log.info("[FFmpeg] using {} (max {} concurrent, timeout {}ms)", binary, maxConcurrent, timeoutMs);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+        io.shutdownNow();
+    }
+
+    public boolean isAvailable() {
+        return binary != null;
+    }
+
+    /**
+     * ffmpeg 실행 (args 는 실행 파일 뒤에 붙는 인자)
+     * @param stdin  ffmpeg 표준 입력으로 보낼 스트림 (다 보내면 닫음, 없으면 null)
+     * @param stdout 표준 출력 처리 (타임아웃으로 강제 종료되면 EOF/IOException 으로 끝남)
+     * @throws IOException ffmpeg 없음 / 대기열 초과 / 타임아웃
+     */
+    public <T> Execution<T> run(List<String> args, InputStream stdin, OutputHandler<T> stdout) throws Exception {
+        String exe = binary;
+        if (exe == null) {
+            throw new IOException(
+                "FFmpeg를 찾을 수 없습니다. Windows에서 설치 방법:\n" +
+                "1. choco install ffmpeg (Chocolatey 사용)\n" +
+                "2. https://ffmpeg.org/download.html 에서 다운로드 후 PATH 추가\n" +
+                "3. application.properties에 ffmpeg.path 설정"
+            );
+        }
+
+        long queuedAt = System.nanoTime();
+        if (!permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+            Counter.builder("ffmpeg.rejected").register(meters).increment();
+            if (stdin != null) stdin.close();
+            throw new IOException("ffmpeg 변환 대기 시간 초과(" + queueTimeoutMs + "ms)");
+        }
+        Timer.builder("ffmpeg.queue.wait").register(meters).record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+
+        long startedAt = System.nanoTime();
+        String outcome = "failure";
+        running.incrementAndGet();
+        Process process = null;
+        ScheduledFuture<?> kill = null;
+        AtomicBoolean timedOut = new AtomicBoolean();
+        try {
+            List<String> command = new ArrayList<>(args.size() + 1);
+            command.add(exe);
+            command.addAll(args);
+            process = new ProcessBuilder(command).start();
+
+            Process started = process;
+            kill = watchdog.schedule(() -> {
+                timedOut.set(true);
+                started.destroyForcibly();
+            }, timeoutMs, TimeUnit.MILLISECONDS);
+
+            Future<?> feeder = (stdin != null)
+                    ? io.submit(() -> feed(stdin, started))
+                    : null;
+            if (stdin == null) process.getOutputStream().close();
+            Future<String> stderr = io.submit(() -> tail(started.getErrorStream()));
+
+            T value;
+            try (InputStream out = process.getInputStream()) {
+                value = stdout.handle(out);
+            }
+            if (!process.waitFor(timeoutMs, TimeUnit.MILLISECONDS)) {
+                timedOut.set(true);
+                process.destroyForcibly();
+            }
+            if (timedOut.get()) {
+                outcome = "timeout";
+                throw new IOException("ffmpeg 실행 시간 초과(" + timeoutMs + "ms)");
+            }
+            if (feeder != null) feeder.get(timeoutMs, TimeUnit.MILLISECONDS);
+            int exit = process.exitValue();
+            outcome = (exit == 0) ? "success" : "failure";
+            return new Execution<>(value, exit, stderr.get(timeoutMs, TimeUnit.MILLISECONDS));
+        } catch (IOException e) {
+            // stdout 처리 중 강제 종료된 경우도 타임아웃으로 보고
+            if (timedOut.get() && !"timeout".equals(outcome)) {
+                outcome = "timeout";
+                throw new IOException("ffmpeg 실행 시간 초과(" + timeoutMs + "ms)", e);
+            }
+            throw e;
+        } finally {
+            if (kill != null) kill.cancel(false);
+            if (process != null && process.isAlive()) process.destroyForcibly();
+            running.decrementAndGet();
+            permits.release();
+            Timer.builder("ffmpeg.run")
+                    .tag("outcome", outcome)
+                    .register(meters)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 입력 스트림 → ffmpeg stdin (다 쓰면 닫아서 EOF 전달) */
+    private static void feed(InputStream source, Process process) {
+        try (InputStream in = source; OutputStream stdin = process.getOutputStream()) {
+            in.transferTo(stdin);
+        } catch (IOException e) {
+            // ffmpeg 가 먼저 종료하면 broken pipe → 종료 코드/stderr 로 판단
+        }
+    }
+
+    /** stderr 를 끝까지 읽되 마지막 STDERR_TAIL_BYTES 만 보관 (파이프가 가득 차 ffmpeg 가 멈추지 않도록) */
+    private static String tail(InputStream err) throws IOException {
+        byte[] ring = new byte[STDERR_TAIL_BYTES];
+        byte[] buf = new byte[1024];
+        int size = 0;
+        int n;
+        try (InputStream in = err) {
+            while ((n = in.read(buf)) != -1) {
+                if (size + n > ring.length) {
+                    int drop = Math.min(size, size + n - ring.length);
+                    System.arraycopy(ring, drop, ring, 0, size - drop);
+                    size -= drop;
+                }
+                int keep = Math.min(n, ring.length);
+                System.arraycopy(buf, n - keep, ring, size, keep);
+                size += keep;
+            }
+        }
+        return new String(ring, 0, size, StandardCharsets.UTF_8).trim();
+    }
+
+    /** ffmpeg 실행 파일 찾기 (설정 경로 → PATH → 일반적인 Windows 설치 경로), -version 으로 검증 */
+    private String findFfmpeg() {
+        List<String> candidates = new ArrayList<>();
+        if (configuredPath != null && !configuredPath.isBlank()) candidates.add(configuredPath);
+        candidates.add("ffmpeg");
+        candidates.add("ffmpeg.exe");
+        String[] windowsPaths = {
+            "C:\\ffmpeg\\bin\\ffmpeg.exe",
+            "C:\\Program Files\\ffmpeg\\bin\\ffmpeg.exe",
+            System.getenv("ProgramFiles") + "\\ffmpeg\\bin\\ffmpeg.exe",
+            System.getenv("LOCALAPPDATA") + "\\Programs\\ffmpeg\\bin\\ffmpeg.exe"
+        };
+        for (String path : windowsPaths) {
+            if (path != null && new File(path).canExecute()) candidates.add(path);
+        }
+
+        for (String candidate : candidates) {
+            if (probe(candidate)) return candidate;
+        }
+        return null;
+    }
+
+    private static boolean probe(String exe) {
+        Process p = null;
+        try {
+            p = new ProcessBuilder(exe, "-version")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            return p.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS) && p.exitValue() == 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        } finally {
+            if (p != null && p.isAlive()) p.destroyForcibly();
+        }
+    }
+}
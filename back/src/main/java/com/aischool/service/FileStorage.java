@@ -1,22 +1,104 @@
 package com.aischool.service;
 
-import lombok.RequiredArgsConstructor;
-import org.apache.commons.io.FileUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
-import java.net.URL;
-import java.nio.charset.StandardCharsets; // (필요 시 유지)
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class FileStorage {
 
+    private static final long DIGEST_CHUNK = 64L * 1024 * 1024;
+
     @Value("${storage.root-dir}")
     private String rootDir;
 
+    @Value("${storage.download.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${storage.download.attempt-timeout-ms:1800000}")
+    private long attemptTimeoutMs;
+
+    @Value("${storage.download.parallel-chunks:4}")
+    private int parallelChunks;
+
+    @Value("${storage.download.min-chunk-bytes:8388608}")
+    private long minChunkBytes;
+
+    @Value("${storage.download.progress-interval-ms:1000}")
+    private long progressIntervalMs;
+
+    /** 다운로드 진행률 콜백 (totalBytes=-1 이면 길이 미상) */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(long bytes, long totalBytes);
+    }
+
+    // 모든 다운로드가 공유하는 클라이언트 (커넥션/버퍼 풀 공유)
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    // 구간 다운로드 작업용 (동시에 여러 파일을 받아도 공유)
+    private final ExecutorService chunkPool = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "download-chunk");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 진행률 보고용 (다운로드 스레드가 아닌 별도 스레드에서 주기적으로 콜백)
+    private final ScheduledExecutorService progressTicker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "download-progress");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    void shutdown() {
+        chunkPool.shutdownNow();
+        progressTicker.shutdownNow();
+    }
+
     /** 공용: 디렉터리 보장 생성 */
     private File ensureDir(File dir) {
         if (!dir.exists() && !dir.mkdirs()) {
@@ -45,9 +127,14 @@ public class FileStorage {
 
     /** ⬇️ 루트 바로 아래에 저장 (하위 폴더 X) */
     public String downloadToRoot(String fileName, String fileUrl) throws Exception {
+        return downloadToRoot(fileName, fileUrl, null);
+    }
+
+    /** ⬇️ 루트 바로 아래에 저장 + progressIntervalMs 마다 진행률 보고 */
+    public String downloadToRoot(String fileName, String fileUrl, ProgressListener listener) throws Exception {
         File root = ensureDir(new File(rootDir));
         File dest = uniqueDest(root, fileName);
-        FileUtils.copyURLToFile(new URL(fileUrl), dest, 30_000, 120_000);
+        download(URI.create(fileUrl), dest.toPath(), listener);
         return dest.getAbsolutePath();
     }
 
@@ -59,10 +146,441 @@ public class FileStorage {
         ensureDir(base);
 
         File dest = uniqueDest(base, fileName);
-        FileUtils.copyURLToFile(new URL(fileUrl), dest, 30_000, 120_000);
+        download(URI.create(fileUrl), dest.toPath(), null);
         return dest.getAbsolutePath();
     }
 
+    /**
+     * 임시 파일(.part)로 다운로드 → 길이/체크섬 검증 → 최종 파일명으로 원자적 이동
+     * - 큰 파일 + Range 지원 서버면 N개 구간을 동시에 받음 (실패 시 단일 스트림으로 전환)
+     * - 단일 스트림은 중간에 끊기면 HTTP Range 로 받은 지점부터 이어받기
+     * - 최종 파일은 검증이 끝난 뒤에만 생기므로 MediaController 가 부분 파일을 서빙하지 않음
+     */
+    private void download(URI uri, Path dest, ProgressListener listener) throws Exception {
+        Path part = dest.resolveSibling(dest.getFileName() + ".part");
+        Files.deleteIfExists(part);
+        Progress progress = new Progress();
+        ScheduledFuture<?> ticker = (listener == null) ? null : progressTicker.scheduleAtFixedRate(
+                () -> progress.report(listener), progressIntervalMs, progressIntervalMs, TimeUnit.MILLISECONDS);
+        try {
+            if (parallelChunks > 1) {
+                Transfer probe = probeRanges(uri);
+                if (probe != null) progress.total = probe.totalLength();
+                if (probe != null && probe.totalLength() >= minChunkBytes * 2) {
+                    try {
+                        downloadRanges(uri, part, probe, progress);
+                        verify(part, probe);
+                        moveIntoPlace(part, dest);
+                        log.info("[Download] {} ({} bytes, ranged)", dest.getFileName(), probe.totalLength());
+                        return;
+                    } catch (IOException e) {
+                        log.warn("[Download] ranged download failed for {}, falling back to single stream: {}",
+                                dest.getFileName(), e.getMessage());
+                        Files.deleteIfExists(part);
+                    }
+                }
+            }
+            downloadSingle(uri, dest, part, progress);
+        } finally {
+            if (ticker != null) {
+                ticker.cancel(false);
+                if (Files.exists(dest)) {
+                    long size = sizeOrZero(dest);
+                    progress.bytes = () -> size;
+                    progress.total = size;
+                    progress.report(listener);
+                }
+            }
+            Files.deleteIfExists(part);
+        }
+    }
+
+    /** 단일 연결 스트리밍 (끊기면 Range 이어받기) */
+    private void downloadSingle(URI uri, Path dest, Path part, Progress progress) throws Exception {
+        progress.bytes = () -> sizeOrZero(part);
+        Exception last = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                Transfer t = transfer(uri, part, progress);
+                verify(part, t);
+                moveIntoPlace(part, dest);
+                log.info("[Download] {} ({} bytes, attempt {})", dest.getFileName(), Files.size(dest), attempt);
+                return;
+            } catch (ChecksumMismatchException e) {
+                // 내용이 틀렸으면 이어받기 불가 → 처음부터
+                Files.deleteIfExists(part);
+                last = e;
+            } catch (IOException | TimeoutException e) {
+                last = e;
+            }
+            log.warn("[Download] attempt {}/{} failed for {}: {}", attempt, maxAttempts, dest.getFileName(),
+                    last.getMessage());
+            if (attempt < maxAttempts) TimeUnit.SECONDS.sleep(backoffSeconds(attempt));
+        }
+        throw new IOException("Download failed after " + maxAttempts + " attempts: " + uri, last);
+    }
+
+    /**
+     * Range 지원 여부/전체 길이 확인 (bytes=0-0 GET)
+     * - presigned URL 은 HEAD 를 막는 경우가 있어 1바이트 GET 으로 확인
+     * @return 206 + 전체 길이를 알 수 있을 때만 값, 아니면 null
+     */
+    private Transfer probeRanges(URI uri) {
+        try {
+            HttpRequest req = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Range", "bytes=0-0")
+                    .GET()
+                    .build();
+            // Range 를 무시하고 200 으로 전체를 보내는 서버면 본문을 받지 않고 바로 끊음 (뒤에서 단일 스트림으로 다시 받음)
+            HttpResponse<Void> res = http.send(req, info -> info.statusCode() == 206
+                    ? HttpResponse.BodySubscribers.discarding()
+                    : new CancelledBody());
+            if (res.statusCode() != 206) return null;
+            long total = totalFromContentRange(res);
+            return total > 0 ? new Transfer(total, etagMd5(res)) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.debug("[Download] range probe failed for {}: {}", uri, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 전체를 N개 구간으로 나눠 동시에 받고, 각 구간은 자기 오프셋에 직접 기록 */
+    private void downloadRanges(URI uri, Path part, Transfer probe, Progress progress)
+            throws IOException, InterruptedException {
+        long total = probe.totalLength();
+        int chunks = (int) Math.min(parallelChunks, Math.max(1, total / minChunkBytes));
+        long size = (total + chunks - 1) / chunks;
+        List<Chunk> parts = new CopyOnWriteArrayList<>();
+        progress.bytes = () -> parts.stream().mapToLong(c -> c.written).sum();
+
+        try (FileChannel ch = FileChannel.open(part,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            AtomicBoolean aborted = new AtomicBoolean();
+            List<CompletableFuture<Void>> futures = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                Chunk chunk = new Chunk(i * size, Math.min(total, (i + 1) * size) - 1);
+                parts.add(chunk);
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        fetchChunk(uri, ch, chunk, aborted);
+                    } catch (Exception e) {
+                        aborted.set(true);
+                        throw new CompletionException(e);
+                    }
+                }, chunkPool));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() instanceof CompletionException ce ? ce.getCause() : e.getCause();
+                if (cause instanceof IOException io) throw io;
+                throw new IOException("Ranged download failed", cause);
+            }
+        }
+    }
+
+    /**
+     * 한 구간 받기 (구간별 재시도, 이미 쓴 바이트 다음부터 다시 요청)
+     * - 쓰기 실패(디스크 부족, 요청보다 긴 응답)와 Range 무시는 재시도해도 같으므로 즉시 실패
+     * - 다른 구간이 실패하면(aborted) 받던 응답도 바로 끊음
+     */
+    private void fetchChunk(URI uri, FileChannel ch, Chunk chunk, AtomicBoolean aborted) throws Exception {
+        IOException last = null;
+        for (int attempt = 1; attempt <= maxAttempts && !aborted.get(); attempt++) {
+            long from = chunk.start + chunk.written;
+            HttpRequest req = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Range", "bytes=" + from + "-" + chunk.end)
+                    .GET()
+                    .build();
+            PositionalWriter writer = new PositionalWriter(ch, chunk, aborted);
+            CompletableFuture<HttpResponse<Void>> future = http.sendAsync(req, info -> info.statusCode() == 206
+                    ? writer
+                    : new CancelledBody());
+            try {
+                HttpResponse<Void> res = future.get(attemptTimeoutMs, TimeUnit.MILLISECONDS);
+                if (res.statusCode() != 206) {
+                    // Range 를 무시한 응답은 재시도해도 의미 없음
+                    throw new IOException("Range not honored (HTTP " + res.statusCode() + ")");
+                }
+                if (chunk.remaining() == 0) return;
+                last = new IOException("Short range: " + chunk.written + "/" + chunk.length() + " bytes");
+            } catch (ExecutionException e) {
+                if (writer.error != null) throw writer.error;
+                last = (e.getCause() instanceof IOException io) ? io : new IOException(e.getCause());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                last = new IOException("Range " + from + "-" + chunk.end + " timed out", e);
+            }
+            log.debug("[Download] chunk {}-{} attempt {}/{} failed: {}", chunk.start, chunk.end, attempt, maxAttempts,
+                    last.getMessage());
+            if (attempt < maxAttempts && !aborted.get()) TimeUnit.SECONDS.sleep(backoffSeconds(attempt));
+        }
+        throw last != null ? last : new IOException("Ranged download aborted");
+    }
+
+    private static long backoffSeconds(int attempt) {
+        return Math.min(30, 1L << attempt);
+    }
+
+    /** 한 번의 GET (이미 받은 바이트가 있으면 Range 요청) */
+    private Transfer transfer(URI uri, Path part, Progress progress) throws Exception {
+        long offset = Files.exists(part) ? Files.size(part) : 0L;
+        HttpRequest.Builder req = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .GET();
+        if (offset > 0) req.header("Range", "bytes=" + offset + "-");
+
+        CompletableFuture<HttpResponse<Path>> future = http.sendAsync(req.build(), info -> {
+            long length = info.headers().firstValueAsLong("Content-Length").orElse(-1L);
+            if (length >= 0) progress.total = (info.statusCode() == 206) ? offset + length : length;
+            if (info.statusCode() == 206 && offset > 0) {
+                return HttpResponse.BodySubscribers.ofFile(part,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            // 200 이면 서버가 Range 를 무시한 것 → 처음부터 덮어쓰기
+            return HttpResponse.BodySubscribers.ofFile(part,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        });
+
+        HttpResponse<Path> res;
+        try {
+            res = future.get(attemptTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            throw e;
+        }
+
+        int status = res.statusCode();
+        if (status != 200 && status != 206) {
+            Files.deleteIfExists(part);
+            throw new IOException("HTTP " + status + " from " + uri);
+        }
+
+        if (status == 206) {
+            // 부분 응답의 Content-MD5 는 구간 기준이라 ETag 만 사용
+            return new Transfer(totalFromContentRange(res), etagMd5(res));
+        }
+        return new Transfer(res.headers().firstValueAsLong("Content-Length").orElse(-1L), expectedMd5(res));
+    }
+
+    /** 길이 + (서버가 알려준 경우) MD5 검증 */
+    private void verify(Path part, Transfer t) throws IOException {
+        long size = Files.size(part);
+        if (t.totalLength() >= 0 && size < t.totalLength()) {
+            throw new IOException("Incomplete download: " + size + "/" + t.totalLength() + " bytes");
+        }
+        if (t.totalLength() >= 0 && size > t.totalLength()) {
+            throw new ChecksumMismatchException("Unexpected size: " + size + "/" + t.totalLength() + " bytes");
+        }
+        if (t.md5Hex() != null) {
+            String actual = md5Hex(part);
+            if (!actual.equalsIgnoreCase(t.md5Hex())) {
+                throw new ChecksumMismatchException("MD5 mismatch: expected " + t.md5Hex() + " got " + actual);
+            }
+        }
+    }
+
+    private static void moveIntoPlace(Path part, Path dest) throws IOException {
+        try {
+            Files.move(part, dest, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(part, dest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Content-MD5(base64) 또는 MD5 형태의 단일 파트 ETag 에서 기대 체크섬 추출 */
+    private static String expectedMd5(HttpResponse<?> res) {
+        Optional<String> contentMd5 = res.headers().firstValue("Content-MD5");
+        if (contentMd5.isPresent()) {
+            try {
+                return HexFormat.of().formatHex(Base64.getDecoder().decode(contentMd5.get().trim()));
+            } catch (IllegalArgumentException ignore) { /* fallthrough */ }
+        }
+        return etagMd5(res);
+    }
+
+    private static String etagMd5(HttpResponse<?> res) {
+        return res.headers().firstValue("ETag")
+                .map(v -> v.replace("\"", "").replace("W/", "").trim().toLowerCase(Locale.ROOT))
+                .filter(v -> v.matches("[0-9a-f]{32}"))
+                .orElse(null);
+    }
+
+    /** Content-Range: bytes 100-999/1000 → 1000 (모르면 -1) */
+    private static long totalFromContentRange(HttpResponse<?> res) {
+        return res.headers().firstValue("Content-Range")
+                .map(v -> v.substring(v.lastIndexOf('/') + 1).trim())
+                .filter(v -> v.matches("\\d+"))
+                .map(Long::parseLong)
+                .orElse(-1L);
+    }
+
+    /** 파일을 메모리 매핑 구간 단위로 해시 (힙 버퍼 할당 없이) */
+    private static String md5Hex(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            long size = ch.size();
+            for (long pos = 0; pos < size; pos += DIGEST_CHUNK) {
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(DIGEST_CHUNK, size - pos));
+                md.update(buf);
+            }
+            return HexFormat.of().formatHex(md.digest());
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long sizeOrZero(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /** 다운로드 중인 바이트 수/전체 길이 (모드별로 bytes 공급자를 바꿔 끼움) */
+    private static final class Progress {
+        volatile LongSupplier bytes = () -> 0L;
+        volatile long total = -1;
+
+        void report(ProgressListener listener) {
+            try {
+                listener.onProgress(bytes.getAsLong(), total);
+            } catch (Exception e) {
+                log.debug("[Download] progress listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /** 한 번의 전송 결과 (totalLength=-1 이면 길이 미상) */
+    private record Transfer(long totalLength, String md5Hex) {
+    }
+
+    /** 바이트 구간 [start, end] 와 지금까지 기록한 양 */
+    private static final class Chunk {
+        final long start;
+        final long end;
+        volatile long written;
+
+        Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long length() {
+            return end - start + 1;
+        }
+
+        long remaining() {
+            return length() - written;
+        }
+    }
+
+    /**
+     * 응답 버퍼를 복사 없이 FileChannel 의 해당 오프셋에 바로 쓰는 구독자
+     * - 쓰기 실패/구간 초과/다른 구간 실패 시 구독을 끊고 body 를 예외로 완료 (send 쪽이 타임아웃까지 기다리지 않도록)
+     */
+    private static final class PositionalWriter implements HttpResponse.BodySubscriber<Void> {
+        private final FileChannel ch;
+        private final Chunk chunk;
+        private final AtomicBoolean aborted;
+        private final CompletableFuture<Void> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        /** 재시도해도 소용없는 실패 (디스크 쓰기 오류, 요청 구간보다 긴 응답) */
+        volatile IOException error;
+
+        PositionalWriter(FileChannel ch, Chunk chunk, AtomicBoolean aborted) {
+            this.ch = ch;
+            this.chunk = chunk;
+            this.aborted = aborted;
+        }
+
+        @Override
+        public CompletionStage<Void> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            if (aborted.get()) {
+                subscription.cancel();
+                body.completeExceptionally(new IOException("Ranged download aborted"));
+                return;
+            }
+            try {
+                for (ByteBuffer buf : buffers) {
+                    // 다음 구간 영역을 덮어쓰지 않도록 쓰기 전에 확인
+                    if (buf.remaining() > chunk.remaining()) {
+                        throw new IOException("Server sent more than requested range");
+                    }
+                    while (buf.hasRemaining()) {
+                        chunk.written += ch.write(buf, chunk.start + chunk.written);
+                    }
+                }
+                subscription.request(1);
+            } catch (IOException e) {
+                error = e;
+                subscription.cancel();
+                body.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(null);
+        }
+    }
+
+    /** 쓰지 않을 응답 본문: 한 바이트도 요청하지 않고 구독 취소 (연결은 클라이언트가 닫음) */
+    private static final class CancelledBody implements HttpResponse.BodySubscriber<Void> {
+        @Override
+        public CompletionStage<Void> getBody() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private static class ChecksumMismatchException extends IOException {
+        ChecksumMismatchException(String message) {
+            super(message);
+        }
+    }
+
     /** 파일명에 사용할 수 없는 문자 정리 */
     public static String sanitize(String name) {
         String s = (name == null) ? "" : name;
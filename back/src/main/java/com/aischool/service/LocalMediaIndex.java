@@ -0,0 +1,222 @@
+package com.aischool.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 썸네일/원본 영상 인덱스 (제목 → 파일 경로)
+ * - 기동 시 contents / contents/thumbnail / contents/video 등 후보 폴더를 한 번 스캔
+ * - 이후 WatchService 로 파일 추가/삭제를 반영 (변경된 폴더만 다시 스캔)
+ * - 조회는 폴더 우선순위 순서대로 Map 조회만 수행 (파일시스템 접근 없음)
+ */
+@Component
+@Slf4j
+public class LocalMediaIndex {
+
+    private static final List<String> THUMB_EXTS = List.of(".jpg", ".jpeg", ".png", ".webp");
+    private static final List<String> VIDEO_EXTS = List.of(".mp4", ".mov", ".m4v", ".mkv", ".webm");
+
+    /** 우선순위 순 후보 폴더 */
+    private final List<Path> thumbDirs;
+    private final List<Path> videoDirs;
+
+    /** 폴더별 (정규화 제목 → 파일) */
+    private final Map<Path, Map<String, Path>> index = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> watched = new ConcurrentHashMap<>();
+
+    private WatchService watcher;
+    private Thread worker;
+
+    public LocalMediaIndex() {
+        Path wd = Paths.get("").toAbsolutePath().normalize();   // ...\secret\back
+        Path parent = wd.getParent();                             // ...\secret
+
+        List<Path> roots = new ArrayList<>();
+        roots.add(wd);
+        if (parent != null) roots.add(parent);
+
+        Set<Path> thumbs = new LinkedHashSet<>();
+        Set<Path> videos = new LinkedHashSet<>();
+        for (Path root : roots) {
+            thumbs.add(root.resolve(Paths.get("contents", "thumnail")));   // 오타 폴더도 탐색
+            thumbs.add(root.resolve(Paths.get("contents", "thumbnail")));
+            videos.add(root.resolve("contents"));
+            videos.add(root.resolve(Paths.get("contents", "video")));
+            videos.add(root.resolve(Paths.get("contents", "videos")));
+        }
+        this.thumbDirs = List.copyOf(thumbs);
+        this.videoDirs = List.copyOf(videos);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            watcher = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            log.warn("[MediaIndex] WatchService unavailable, index will not auto-refresh: {}", e.getMessage());
+        }
+
+        Set<Path> dirs = new LinkedHashSet<>(thumbDirs);
+        dirs.addAll(videoDirs);
+        for (Path dir : dirs) {
+            // 아직 없는 하위 폴더가 생기는 것도 감지하도록 상위 contents 폴더도 감시
+            Path contentsRoot = dir.getFileName().toString().equals("contents") ? dir : dir.getParent();
+            register(contentsRoot);
+            if (Files.isDirectory(dir)) {
+                register(dir);
+                rescan(dir);
+            }
+        }
+
+        int files = index.values().stream().mapToInt(Map::size).sum();
+        log.info("[MediaIndex] indexed {} files in {} directories", files, index.size());
+
+        if (watcher != null) {
+            worker = new Thread(this::watchLoop, "local-media-watch");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker != null) worker.interrupt();
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException ignore) { /* shutdown */ }
+        }
+    }
+
+    /** 제목에 해당하는 로컬 썸네일 절대 경로 (없으면 null) */
+    public String findThumbnail(String title) {
+        return find(thumbDirs, THUMB_EXTS, title);
+    }
+
+    /** 제목에 해당하는 로컬 원본 영상 절대 경로 (없으면 null) */
+    public String findVideo(String title) {
+        return find(videoDirs, VIDEO_EXTS, title);
+    }
+
+    private String find(List<Path> dirs, List<String> exts, String title) {
+        if (title == null || title.isBlank()) return null;
+        String key = normalize(title);
+        for (Path dir : dirs) {
+            Map<String, Path> files = index.get(dir);
+            if (files == null) continue;
+            Path p = files.get(key);
+            if (p != null && exts.contains(extension(p))) return p.toString();
+        }
+        return null;
+    }
+
+    /** 폴더 하나를 다시 읽어 통째로 교체 (같은 제목이면 확장자 우선순위가 높은 파일 유지) */
+    private void rescan(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            index.remove(dir);
+            return;
+        }
+        List<String> exts = thumbDirs.contains(dir) ? THUMB_EXTS : VIDEO_EXTS;
+        Map<String, Path> files = new ConcurrentHashMap<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+            for (Path p : ds) {
+                String ext = extension(p);
+                if (!exts.contains(ext) || !Files.isRegularFile(p)) continue;
+                String name = p.getFileName().toString();
+                String key = normalize(name.substring(0, name.length() - ext.length()));
+                files.merge(key, p.toAbsolutePath(),
+                        (a, b) -> exts.indexOf(extension(a)) <= exts.indexOf(extension(b)) ? a : b);
+            }
+            index.put(dir, files);
+        } catch (IOException e) {
+            log.warn("[MediaIndex] scan failed: dir={}", dir, e);
+        }
+    }
+
+    private void register(Path dir) {
+        if (watcher == null || dir == null || !Files.isDirectory(dir) || watched.containsValue(dir)) return;
+        try {
+            WatchKey key = dir.register(watcher,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            watched.put(key, dir);
+        } catch (IOException e) {
+            log.warn("[MediaIndex] cannot watch {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private void watchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = watcher.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path dir = watched.get(key);
+            if (dir != null) {
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        changed = true;
+                        continue;
+                    }
+                    Path child = dir.resolve((Path) event.context());
+                    // 후보 하위 폴더가 새로 생기면 감시 + 스캔 시작
+                    if (isCandidate(child) && Files.isDirectory(child)) {
+                        register(child);
+                        rescan(child);
+                    }
+                    // 다운로드 중인 .part 등 미디어가 아닌 파일 변경은 무시
+                    String ext = extension(child);
+                    if (THUMB_EXTS.contains(ext) || VIDEO_EXTS.contains(ext)) changed = true;
+                }
+                if (changed && isCandidate(dir)) {
+                    rescan(dir);
+                    log.debug("[MediaIndex] refreshed {}", dir);
+                }
+            }
+            if (!key.reset()) {
+                watched.remove(key);
+                if (dir != null) index.remove(dir);
+            }
+        }
+    }
+
+    private boolean isCandidate(Path dir) {
+        return thumbDirs.contains(dir) || videoDirs.contains(dir);
+    }
+
+    /** 대소문자/공백/_/- 차이를 무시한 제목 키 */
+    static String normalize(String title) {
+        return title.trim().toLowerCase(Locale.ROOT).replaceAll("[\\s_-]+", "_");
+    }
+
+    private static String extension(Path p) {
+        String name = p.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,134 @@
+package com.aischool.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 로컬 발음 평가 엔진 (pronunciation.engine=local)
+ * - Azure 인식 단계만 대체: 미리 녹화해 둔 Azure 응답 JSON(fixture)을 재생 → Azure 호출/과금 없이 /api/tutor/analyze 부하 테스트
+ * - ffmpeg 디코딩/결과 캐시는 PronunciationService 가 azure 엔진과 똑같이 거침 (풀 대기/변환 비용 포함)
+ * - 기준 문장과 DisplayText 가 같은 fixture 우선, 없으면 문장 해시로 고정 선택 (같은 입력 → 같은 결과)
+ * - 설정한 지연 분포만큼 기다린 뒤 응답 (seed 를 주면 지연 순서도 재현 가능)
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "pronunciation.engine", havingValue = "local")
+public class LocalPronunciationEngine implements PronunciationEngine {
+
+    /** 지연 분포 (center=latency-ms, spread 의미는 분포별) */
+    enum Latency {
+        FIXED,      // 항상 center
+        UNIFORM,    // center ± spread(ms)
+        NORMAL,     // 평균 center, 표준편차 spread(ms)
+        LOGNORMAL   // 중앙값 center, σ=spread (꼬리 지연 재현용)
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String fixturesDir;
+    private final Latency distribution;
+    private final double centerMs;
+    private final double spread;
+    private final long maxMs;
+    private final Random random;
+
+    private final Map<String, String> byText = new HashMap<>();
+    private final List<String> fixtures = new ArrayList<>();
+
+    public LocalPronunciationEngine(
+            @Value("${pronunciation.local.fixtures-dir:}") String fixturesDir,
+            @Value("${pronunciation.local.latency:lognormal}") String distribution,
+            @Value("${pronunciation.local.latency-ms:800}") double centerMs,
+            @Value("${pronunciation.local.latency-spread:0.5}") double spread,
+            @Value("${pronunciation.local.latency-max-ms:10000}") long maxMs,
+            @Value("${pronunciation.local.seed:0}") long seed
+    ) {
+        this.fixturesDir = fixturesDir;
+        this.distribution = Latency.valueOf(distribution.trim().toUpperCase(Locale.ROOT));
+        this.centerMs = Math.max(0, centerMs);
+        this.spread = Math.max(0, spread);
+        this.maxMs = maxMs;
+        this.random = (seed != 0) ? new Random(seed) : new Random();
+    }
+
+    /** fixture 로드: fixtures-dir 지정 시 그 폴더의 *.json, 아니면 classpath:pronunciation-fixtures/*.json */
+    @PostConstruct
+    void load() throws IOException {
+        String pattern = (fixturesDir == null || fixturesDir.isBlank())
+                ? "classpath*:pronunciation-fixtures/*.json"
+                : Path.of(fixturesDir).toAbsolutePath().toUri() + "*.json";
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(pattern);
+        List<Resource> sorted = new ArrayList<>(List.of(resources));
+        sorted.sort(Comparator.comparing(r -> String.valueOf(r.getFilename())));
+
+        for (Resource resource : sorted) {
+            String json;
+            try (InputStream in = resource.getInputStream()) {
+                json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            JsonNode root = objectMapper.readTree(json);
+            fixtures.add(json);
+            String text = root.path("DisplayText").asText("");
+            if (!text.isEmpty()) byText.putIfAbsent(normalize(text), json);
+        }
+        if (fixtures.isEmpty()) {
+            throw new IllegalStateException("No pronunciation fixtures found: " + pattern);
+        }
+        log.info("[Pronunciation] local engine: {} fixtures, latency {} center={}ms spread={}",
+                fixtures.size(), distribution, centerMs, spread);
+    }
+
+    @Override
+    public String assess(byte[] pcm, String referenceText, String lang) throws Exception {
+        String key = normalize(referenceText);
+        String json = byText.get(key);
+        if (json == null) json = fixtures.get(Math.floorMod(key.hashCode(), fixtures.size()));
+
+        Thread.sleep(nextLatencyMs());
+        return json;
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    /** 녹화해 둔 결과를 그대로 돌려주므로 평가 단위 설정이 없음 */
+    @Override
+    public String granularity() {
+        return "local";
+    }
+
+    private long nextLatencyMs() {
+        double ms = switch (distribution) {
+            case FIXED -> centerMs;
+            case UNIFORM -> centerMs + (random.nextDouble() * 2 - 1) * spread;
+            case NORMAL -> centerMs + random.nextGaussian() * spread;
+            case LOGNORMAL -> centerMs * Math.exp(random.nextGaussian() * spread);
+        };
+        return Math.min(maxMs, Math.max(0, Math.round(ms)));
+    }
+
+    /** 대소문자/문장부호/공백 차이는 무시 */
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
@@ -0,0 +1,24 @@
+package com.aischool.service;
+
+/**
+ * 발음 평가 엔진 SPI (인식 단계만)
+ * - 디코딩된 PCM + 기준 문장 → Azure Pronunciation Assessment 형식의 원시 JSON (FeedbackGenerator 입력)
+ * - 업로드 디코딩(ffmpeg)과 결과 캐시는 PronunciationService 가 엔진과 무관하게 처리
+ * - pronunciation.engine 으로 구현 선택
+ *   azure(기본): AzureSpeechService / local: LocalPronunciationEngine (녹화 fixture 재생, 부하 테스트용)
+ */
+public interface PronunciationEngine {
+
+    /**
+     * @param pcm           16kHz / mono / 16bit 원시 PCM (ffmpeg 변환 결과)
+     * @param referenceText 아이가 따라 읽어야 했던 기준 문장
+     * @param lang          인식 언어 (예: en-US)
+     */
+    String assess(byte[] pcm, String referenceText, String lang) throws Exception;
+
+    /** 메트릭/로그/캐시 키용 엔진 이름 */
+    String name();
+
+    /** 평가 단위 (결과 JSON 모양이 달라지므로 캐시 키에 포함) */
+    String granularity();
+}
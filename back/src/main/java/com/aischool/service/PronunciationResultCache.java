@@ -0,0 +1,250 @@
+package com.aischool.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 발음 평가 결과 캐시 (내용 주소 방식)
+ * - 키: SHA-256(디코딩된 PCM + 기준 문장 + 언어 + 엔진 + 평가 단위) → 같은 녹음을 다시 올리면 엔진 호출 없이 응답
+ *   (디코딩 결과가 바이트 단위로 같아야 적중: 같은 파일 재업로드는 적중, 손실 압축으로 다시 인코딩한 녹음은 샘플이 달라져 미스)
+ * - 값: Azure 원시 JSON + 원래 걸린 인식 시간 (적중 시 절약한 시간으로 기록)
+ * - 메모리: LRU, 총 바이트(max-bytes) + TTL 제한 / 디스크(disk-dir 지정 시): 메모리에서 밀려난 것도 TTL 동안 보관
+ * - 메트릭: pronunciation.cache.requests{result=memory|disk|miss}, pronunciation.cache.saved, pronunciation.cache.bytes
+ */
+@Component
+@Slf4j
+public class PronunciationResultCache {
+
+    /** 디스크에 저장하는 형태 (원래 인식 시간 포함) */
+    record Stored(String json, long computeMs, long storedAt) {
+    }
+
+    private final MeterRegistry meters;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long maxBytes;
+    private final long ttlMs;
+    private final Path diskDir;
+    private final long diskMaxBytes;
+
+    private final LinkedHashMap<String, Stored> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes;
+    private final Timer saved;
+    private ScheduledExecutorService sweeper;
+
+    public PronunciationResultCache(
+            MeterRegistry meters,
+            @Value("${pronunciation.cache.max-bytes:16777216}") long maxBytes,
+            @Value("${pronunciation.cache.ttl-ms:86400000}") long ttlMs,
+            @Value("${pronunciation.cache.disk-dir:}") String diskDir,
+            @Value("${pronunciation.cache.disk-max-bytes:268435456}") long diskMaxBytes
+    ) {
+        this.meters = meters;
+        this.maxBytes = maxBytes;
+        this.ttlMs = ttlMs;
+        this.diskDir = (diskDir == null || diskDir.isBlank()) ? null : Path.of(diskDir).toAbsolutePath();
+        this.diskMaxBytes = diskMaxBytes;
+        this.saved = Timer.builder("pronunciation.cache.saved").register(meters);
+
+        Gauge.builder("pronunciation.cache.bytes", this, PronunciationResultCache::memoryBytes).register(meters);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (diskDir == null) return;
+        Files.createDirectories(diskDir);
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "pronunciation-cache");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepDisk, 1, 10, TimeUnit.MINUTES);
+        log.info("[PronunciationCache] disk tier at {} (max {} bytes)", diskDir, diskMaxBytes);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (sweeper != null) sweeper.shutdownNow();
+    }
+
+    /** 캐시 키 (각 필드 앞에 길이를 붙여 경계가 섞이지 않도록) */
+    public static String key(byte[] pcm, String referenceText, String lang, String engine, String granularity) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            update(sha, pcm);
+            update(sha, referenceText.getBytes(StandardCharsets.UTF_8));
+            update(sha, lang.getBytes(StandardCharsets.UTF_8));
+            update(sha, engine.getBytes(StandardCharsets.UTF_8));
+            update(sha, granularity.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    /** 캐시 조회 (메모리 → 디스크, 디스크 적중은 메모리로 올림) */
+    public Optional<String> get(String key) {
+        long now = System.currentTimeMillis();
+        Stored hit;
+        synchronized (memory) {
+            hit = memory.get(key);
+            if (hit != null && expired(hit, now)) {
+                remove(key);
+                hit = null;
+            }
+        }
+        if (hit != null) return Optional.of(record("memory", hit));
+
+        Stored fromDisk = readDisk(key, now);
+        if (fromDisk != null) {
+            putMemory(key, fromDisk);
+            return Optional.of(record("disk", fromDisk));
+        }
+        Counter.builder("pronunciation.cache.requests").tag("result", "miss").register(meters).increment();
+        return Optional.empty();
+    }
+
+    /** 결과 저장 (computeMs = 이번에 Azure 인식에 걸린 시간) */
+    public void put(String key, String json, long computeMs) {
+        Stored stored = new Stored(json, computeMs, System.currentTimeMillis());
+        putMemory(key, stored);
+        writeDisk(key, stored);
+    }
+
+    public long memoryBytes() {
+        synchronized (memory) {
+            return memoryBytes;
+        }
+    }
+
+    private String record(String tier, Stored hit) {
+        Counter.builder("pronunciation.cache.requests").tag("result", tier).register(meters).increment();
+        saved.record(hit.computeMs(), TimeUnit.MILLISECONDS);
+        return hit.json();
+    }
+
+    private void putMemory(String key, Stored stored) {
+        long size = sizeOf(stored);
+        if (size > maxBytes) return;
+        synchronized (memory) {
+            remove(key);
+            memory.put(key, stored);
+            memoryBytes += size;
+            // 접근 순서 LinkedHashMap → 앞쪽이 가장 오래 안 쓰인 항목
+            Iterator<Map.Entry<String, Stored>> it = memory.entrySet().iterator();
+            while (memoryBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Stored> eldest = it.next();
+                memoryBytes -= sizeOf(eldest.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    /** memory 락을 잡은 상태에서 호출 */
+    private void remove(String key) {
+        Stored old = memory.remove(key);
+        if (old != null) memoryBytes -= sizeOf(old);
+    }
+
+    private boolean expired(Stored stored, long now) {
+        return now - stored.storedAt() > ttlMs;
+    }
+
+    private static long sizeOf(Stored stored) {
+        return stored.json().length() * 2L + 64;   // UTF-16 문자 + 키/객체 오버헤드 근사
+    }
+
+    private Stored readDisk(String key, long now) {
+        if (diskDir == null) return null;
+        Path file = diskDir.resolve(key + ".json");
+        try {
+            if (!Files.exists(file)) return null;
+            Stored stored = objectMapper.readValue(file.toFile(), Stored.class);
+            if (expired(stored, now)) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return stored;
+        } catch (IOException e) {
+            log.debug("[PronunciationCache] unreadable entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 임시 파일에 쓰고 원자적으로 이동 (읽는 쪽이 반쯤 쓴 파일을 보지 않도록) */
+    private void writeDisk(String key, Stored stored) {
+        if (diskDir == null) return;
+        Path file = diskDir.resolve(key + ".json");
+        Path tmp = diskDir.resolve(key + ".json.tmp");
+        try {
+            objectMapper.writeValue(tmp.toFile(), stored);
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("[PronunciationCache] disk write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    /** 디스크 정리: TTL 지난 항목 삭제 후, 용량 초과분은 오래된 것부터 삭제 */
+    private void sweepDisk() {
+        try (Stream<Path> files = Files.list(diskDir)) {
+            long cutoff = System.currentTimeMillis() - ttlMs;
+            List<Path> entries = files
+                    .filter(p -> p.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparingLong(PronunciationResultCache::modifiedAt))
+                    .toList();
+            long total = 0;
+            for (Path p : entries) total += Files.size(p);
+            for (Path p : entries) {
+                if (modifiedAt(p) >= cutoff && total <= diskMaxBytes) break;
+                long size = Files.size(p);
+                if (Files.deleteIfExists(p)) total -= size;
+            }
+        } catch (Exception e) {
+            log.warn("[PronunciationCache] disk sweep failed: {}", e.getMessage());
+        }
+    }
+
+    private static long modifiedAt(Path p) {
+        try {
+            return Files.getLastModifiedTime(p).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void update(MessageDigest sha, byte[] bytes) {
+        int n = bytes.length;
+        sha.update(new byte[]{(byte) (n >>> 24), (byte) (n >>> 16), (byte) (n >>> 8), (byte) n});
+        sha.update(bytes);
+    }
+}
@@ -0,0 +1,92 @@
+package com.aischool.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 발음 평가 파이프라인 (업로드 → ffmpeg PCM 디코딩 → 결과 캐시 → 엔진 인식)
+ * - 엔진(azure/local)과 무관하게 디코딩/캐시를 같은 경로로 거침 → local 엔진 부하 테스트에도 ffmpeg 풀/캐시 비용이 포함됨
+ * - 캐시 키에 엔진 이름을 넣어 local fixture 결과가 Azure 결과로 섞이지 않도록
+ */
+@Service
+@RequiredArgsConstructor
+public class PronunciationService {
+
+    // ffmpeg 가 내보내는 원시 PCM 형식 (Azure 권장 입력: 16kHz / mono / 16bit)
+    private static final int SAMPLE_RATE = SpeechRecognizerPool.SAMPLE_RATE;
+    private static final int READ_BUFFER_BYTES = 32 * 1024;
+    // 녹음 최대 길이 (초과 시 거부, PCM 을 메모리에 모으므로 상한 필요)
+    private static final int MAX_PCM_SECONDS = 300;
+    private static final long MAX_PCM_BYTES = (long) SAMPLE_RATE * 2 * MAX_PCM_SECONDS;
+
+    // stdin 으로 받은 컨테이너(webm 등) → 헤더 없는 s16le 를 stdout 으로
+    private static final List<String> PCM_ARGS = List.of(
+            "-hide_banner", "-loglevel", "error",
+            "-i", "pipe:0",
+            "-f", "s16le",
+            "-ar", String.valueOf(SAMPLE_RATE),
+            "-ac", "1",
+            "-acodec", "pcm_s16le",
+            "pipe:1"
+    );
+
+    private final FfmpegService ffmpeg;
+    private final PronunciationResultCache resultCache;
+    private final PronunciationEngine engine;   // pronunciation.engine=azure|local
+
+    /**
+     * 녹음 발음 평가 → 원시 JSON (FeedbackGenerator.generate(json) 입력)
+     * - 같은 녹음(PCM)+문장+언어+엔진+평가 단위로 이미 평가한 적 있으면 캐시에서 바로 반환 (엔진 호출 없음)
+     * @param rawAudio 업로드된 녹음 (webm 등 컨테이너 그대로, 호출 측에서 닫음)
+     */
+    public String assess(InputStream rawAudio, String referenceText, String lang) throws Exception {
+        if (referenceText == null || referenceText.isBlank()) {
+            throw new IllegalArgumentException("referenceText(기준 문장)이 비어있습니다.");
+        }
+        lang = (lang == null || lang.isBlank()) ? "en-US" : lang;
+        byte[] pcm = decode(rawAudio);
+
+        String cacheKey = PronunciationResultCache.key(pcm, referenceText, lang,
+                engine.name(), engine.granularity());
+        Optional<String> cached = resultCache.get(cacheKey);
+        if (cached.isPresent()) return cached.get();
+
+        long startedAt = System.currentTimeMillis();
+        String json = engine.assess(pcm, referenceText, lang);
+        resultCache.put(cacheKey, json, System.currentTimeMillis() - startedAt);
+        return json;
+    }
+
+    /**
+     * 업로드 스트림 → ffmpeg(stdin) → 16kHz/mono/PCM16(stdout) 을 메모리로
+     * - 임시 파일 없음, 동시 실행 수/타임아웃은 FfmpegService 가 관리
+     * - 캐시 키가 PCM 해시라서 인식 전에 변환을 끝까지 받아 둠 (5분 녹음 ≈ 9.6MB 상한)
+     */
+    private byte[] decode(InputStream rawAudio) throws Exception {
+        FfmpegService.Execution<byte[]> conversion = ffmpeg.run(PCM_ARGS, rawAudio, PronunciationService::readPcm);
+        if (!conversion.succeeded() || conversion.value().length == 0) {
+            throw new IOException("ffmpeg 변환 실패(exit=" + conversion.exitCode() + "): " + conversion.stderr());
+        }
+        return conversion.value();
+    }
+
+    /** ffmpeg stdout(PCM) → 바이트 배열 (MAX_PCM_BYTES 초과 시 중단) */
+    private static byte[] readPcm(InputStream pcm) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(READ_BUFFER_BYTES * 4);
+        byte[] buf = new byte[READ_BUFFER_BYTES];
+        int n;
+        while ((n = pcm.read(buf)) != -1) {
+            out.write(buf, 0, n);
+            if (out.size() > MAX_PCM_BYTES) {
+                throw new IOException("녹음이 너무 깁니다 (최대 " + MAX_PCM_SECONDS + "초)");
+            }
+        }
+        return out.toByteArray();
+    }
+}
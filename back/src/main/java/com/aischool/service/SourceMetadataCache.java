@@ -0,0 +1,146 @@
+package com.aischool.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 입력 영상 URL 의 HEAD 메타데이터 캐시 (정규화 URL → Content-Disposition 제목)
+ * - 같은 원본을 다시 번역하면 네트워크 왕복 없이 캐시에서 제목을 얻음
+ * - 미스는 비동기로 조회하고, 동시에 같은 URL 을 조회하면 하나의 요청을 공유
+ * - TTL + 최대 개수(LRU) 로 제한, 실패 결과는 짧게만 보관
+ */
+@Component
+@Slf4j
+public class SourceMetadataCache {
+
+    private static final Pattern FILENAME_UTF8 = Pattern.compile("filename\\*=UTF-8''([^;]+)");
+    private static final Pattern FILENAME = Pattern.compile("filename=\"?([^\";]+)\"?");
+    private static final long FAILURE_TTL_MS = 60_000;
+
+    /** HEAD 응답에서 얻은 원본 정보 (모르면 null) */
+    public record SourceMetadata(String title) {
+        static final SourceMetadata EMPTY = new SourceMetadata(null);
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final long ttlMs;
+    private final long waitMs;
+    private final Map<String, Entry> entries;
+
+    public SourceMetadataCache(
+            @Value("${translation.source-metadata.ttl-ms:3600000}") long ttlMs,
+            @Value("${translation.source-metadata.max-entries:1000}") int maxEntries,
+            @Value("${translation.source-metadata.wait-ms:10000}") long waitMs
+    ) {
+        this.ttlMs = ttlMs;
+        this.waitMs = waitMs;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** 캐시 미스면 백그라운드 조회 시작 (결과를 기다리지 않음) */
+    public CompletableFuture<SourceMetadata> prefetch(String url) {
+        if (url == null || url.isBlank()) return CompletableFuture.completedFuture(SourceMetadata.EMPTY);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry e = entries.get(url);
+            if (e != null && (!e.future.isDone() || e.expiresAt > now)) return e.future;
+
+            Entry fresh = new Entry(fetch(url));
+            fresh.expiresAt = Long.MAX_VALUE;   // 조회 중에는 만료되지 않음
+            entries.put(url, fresh);
+            fresh.future.thenAccept(meta -> {
+                synchronized (entries) {
+                    fresh.expiresAt = System.currentTimeMillis()
+                            + (meta == SourceMetadata.EMPTY ? Math.min(ttlMs, FAILURE_TTL_MS) : ttlMs);
+                }
+            });
+            return fresh.future;
+        }
+    }
+
+    /** 메타데이터 조회 (미스면 최대 waitMs 대기, 그래도 없으면 EMPTY) */
+    public SourceMetadata get(String url) {
+        try {
+            return prefetch(url).get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SourceMetadata.EMPTY;
+        } catch (Exception e) {
+            return SourceMetadata.EMPTY;
+        }
+    }
+
+    private CompletableFuture<SourceMetadata> fetch(String url) {
+        HttpRequest req;
+        try {
+            req = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(10))
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(SourceMetadata.EMPTY);
+        }
+        return http.sendAsync(req, HttpResponse.BodyHandlers.discarding())
+                .thenApply(res -> res.statusCode() < 400 ? parse(res.headers()) : SourceMetadata.EMPTY)
+                .exceptionally(ex -> {
+                    log.debug("[SourceMeta] HEAD {} failed: {}", url, ex.getMessage());
+                    return SourceMetadata.EMPTY;
+                });
+    }
+
+    private static SourceMetadata parse(HttpHeaders headers) {
+        return new SourceMetadata(
+                headers.firstValue("Content-Disposition").map(SourceMetadataCache::titleFromDisposition).orElse(null));
+    }
+
+    /** Content-Disposition 의 파일명(확장자 제외)을 제목으로 사용 */
+    private static String titleFromDisposition(String cd) {
+        Matcher m = FILENAME_UTF8.matcher(cd);
+        if (!m.find()) {
+            m = FILENAME.matcher(cd);
+            if (!m.find()) return null;
+        }
+        String name;
+        try {
+            name = URLDecoder.decode(m.group(1), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            name = m.group(1);
+        }
+        int dot = name.lastIndexOf('.');
+        return FileStorage.sanitize(dot > 0 ? name.substring(0, dot) : name);
+    }
+
+    private static final class Entry {
+        final CompletableFuture<SourceMetadata> future;
+        long expiresAt;
+
+        Entry(CompletableFuture<SourceMetadata> future) {
+            this.future = future;
+        }
+    }
+}
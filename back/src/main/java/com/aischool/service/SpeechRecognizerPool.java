@@ -0,0 +1,224 @@
+package com.aischool.service;
+
+import com.microsoft.cognitiveservices.speech.Connection;
+import com.microsoft.cognitiveservices.speech.SpeechConfig;
+import com.microsoft.cognitiveservices.speech.SpeechRecognizer;
+import com.microsoft.cognitiveservices.speech.audio.AudioConfig;
+import com.microsoft.cognitiveservices.speech.audio.AudioInputStream;
+import com.microsoft.cognitiveservices.speech.audio.AudioStreamFormat;
+import com.microsoft.cognitiveservices.speech.audio.PushAudioInputStream;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Azure 음성 인식기 풀 (언어별)
+ * - SpeechConfig 는 언어별로 한 번만 만들어 재사용
+ * - 인식기는 push stream 에 묶여 1회용이므로, 미리 만들어 Connection.openConnection 으로 연결까지 해둔 것을 꺼내 씀
+ *   → 요청 경로에서 TLS/websocket 연결 시간을 뺌 (꺼내 간 만큼 백그라운드에서 다시 채움)
+ * - 최근 languageIdleMs 동안 쓰인 언어만 warmPerLanguage 개 유지, maxIdleMs 넘게 놀았거나 끊긴 연결은 폐기 (규칙은 WarmPool)
+ * - azure.speech.host 를 지정하면 지역 엔드포인트 대신 해당 호스트로 접속 (로컬 대역 서버 검증용)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "pronunciation.engine", havingValue = "azure", matchIfMissing = true)
+public class SpeechRecognizerPool {
+
+    static final int SAMPLE_RATE = 16000;
+
+    private final String speechKey;
+    private final String speechRegion;
+    private final String speechHost;
+    private final long healthIntervalMs;
+    private final String[] prewarmLanguages;
+
+    private final Map<String, SpeechConfig> configs = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "speech-pool");
+        t.setDaemon(true);
+        return t;
+    });
+    private final WarmPool<Warm> pool;
+
+    public SpeechRecognizerPool(
+            MeterRegistry meters,
+            @Value("${azure.speech.key}") String speechKey,
+            @Value("${azure.speech.region}") String speechRegion,
+            @Value("${azure.speech.host:}") String speechHost,
+            @Value("${azure.speech.pool.warm-per-language:2}") int warmPerLanguage,
+            @Value("${azure.speech.pool.max-idle-ms:60000}") long maxIdleMs,
+            @Value("${azure.speech.pool.language-idle-ms:600000}") long languageIdleMs,
+            @Value("${azure.speech.pool.health-interval-ms:10000}") long healthIntervalMs,
+            @Value("${azure.speech.pool.prewarm-languages:}") String[] prewarmLanguages
+    ) {
+        this.speechKey = speechKey;
+        this.speechRegion = speechRegion;
+        this.speechHost = speechHost;
+        this.healthIntervalMs = healthIntervalMs;
+        this.prewarmLanguages = prewarmLanguages;
+        this.pool = new WarmPool<>(this::create, maintenance, meters, System::currentTimeMillis,
+                warmPerLanguage, maxIdleMs, languageIdleMs);
+
+        Gauge.builder("speech.pool.idle", this, SpeechRecognizerPool::idleCount).register(meters);
+    }
+
+    @PostConstruct
+    void start() {
+        Arrays.stream(prewarmLanguages)
+                .map(String::trim)
+                .filter(lang -> !lang.isEmpty())
+                .forEach(pool::touch);
+        maintenance.scheduleWithFixedDelay(this::maintain, 0, healthIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        maintenance.shutdownNow();
+        pool.closeAll();
+        configs.values().forEach(SpeechConfig::close);
+    }
+
+    /**
+     * 인식기 대여 (연결된 예비분이 있으면 그것을, 없으면 새로 생성)
+     * - 반환된 Lease 는 1회용, 사용 후 반드시 close
+     */
+    public Lease acquire(String lang) {
+        return pool.acquire(lang).lease();
+    }
+
+    public int idleCount() {
+        return pool.idleCount();
+    }
+
+    private void maintain() {
+        try {
+            pool.maintain();
+        } catch (Exception e) {
+            log.warn("[Speech] pool maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private Warm create(String lang, boolean preconnect) {
+        SpeechConfig config = configs.computeIfAbsent(lang, this::newConfig);
+        AudioStreamFormat format = AudioStreamFormat.getWaveFormatPCM(SAMPLE_RATE, (short) 16, (short) 1);
+        PushAudioInputStream pushStream = AudioInputStream.createPushStream(format);
+        AudioConfig audioConfig = AudioConfig.fromStreamInput(pushStream);
+        SpeechRecognizer recognizer = new SpeechRecognizer(config, audioConfig);
+        Connection connection = Connection.fromRecognizer(recognizer);
+        Warm warm = new Warm(pushStream, audioConfig, recognizer, connection);
+        connection.connected.addEventListener((s, e) -> {
+            warm.connected = true;
+            warm.connecting = false;
+        });
+        connection.disconnected.addEventListener((s, e) -> {
+            warm.connected = false;
+            warm.connecting = false;
+        });
+        if (preconnect) {
+            // openConnection 은 비동기 → connected 이벤트 전까지는 연결 중
+            warm.connecting = true;
+            connection.openConnection(false);
+        }
+        return warm;
+    }
+
+    private SpeechConfig newConfig(String lang) {
+        SpeechConfig config = (speechHost != null && !speechHost.isBlank())
+                ? SpeechConfig.fromHost(URI.create(speechHost), speechKey)
+                : SpeechConfig.fromSubscription(speechKey, speechRegion);
+        config.setSpeechRecognitionLanguage(lang);
+        return config;
+    }
+
+    /** 미리 만들어 둔 인식기 (연결 상태는 Connection 이벤트로 추적) */
+    private static final class Warm implements WarmPool.Pooled {
+        final PushAudioInputStream pushStream;
+        final AudioConfig audioConfig;
+        final SpeechRecognizer recognizer;
+        final Connection connection;
+        final AtomicBoolean ended = new AtomicBoolean();
+        volatile boolean connected;
+        volatile boolean connecting;
+
+        Warm(PushAudioInputStream pushStream, AudioConfig audioConfig, SpeechRecognizer recognizer,
+             Connection connection) {
+            this.pushStream = pushStream;
+            this.audioConfig = audioConfig;
+            this.recognizer = recognizer;
+            this.connection = connection;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public boolean isConnecting() {
+            return connecting;
+        }
+
+        Lease lease() {
+            return new Lease(this);
+        }
+
+        /** push stream 은 두 번 닫으면 안 되므로 한 번만 */
+        void endOfAudio() {
+            if (ended.compareAndSet(false, true)) pushStream.close();
+        }
+
+        @Override
+        public void close() {
+            try {
+                endOfAudio();
+                connection.closeConnection();
+                connection.close();
+                recognizer.close();
+                audioConfig.close();
+            } catch (Exception e) {
+                log.debug("[Speech] close failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /** 대여한 인식기 (push stream 에 PCM 을 쓰고 recognizer 로 인식, 끝나면 close) */
+    public static final class Lease implements AutoCloseable {
+        private final Warm warm;
+
+        private Lease(Warm warm) {
+            this.warm = warm;
+        }
+
+        public SpeechRecognizer recognizer() {
+            return warm.recognizer;
+        }
+
+        public PushAudioInputStream pushStream() {
+            return warm.pushStream;
+        }
+
+        /** 입력 끝 알림 (push stream 닫기, 여러 번 호출해도 안전) */
+        public void endOfAudio() {
+            warm.endOfAudio();
+        }
+
+        @Override
+        public void close() {
+            warm.close();
+        }
+    }
+}
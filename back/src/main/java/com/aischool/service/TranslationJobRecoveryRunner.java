@@ -0,0 +1,29 @@
+package com.aischool.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 이전 프로세스가 남긴 미완료 번역 job 을 이어받음
+ * - 배포/재시작으로 대기 중이던 Perso export 를 버리지 않도록
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TranslationJobRecoveryRunner implements ApplicationRunner {
+
+    private final TranslationJobService jobService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            jobService.recoverUnfinished();
+        } catch (Exception e) {
+            // 복구 실패가 기동을 막지 않도록 (PersoExportSweeper 가 EXPORTING job 은 다시 연결)
+            log.error("Translation job recovery failed", e);
+        }
+    }
+}
@@ -0,0 +1,538 @@
+package com.aischool.service;
+
+import com.aischool.dto.PersoExportResponse;
+import com.aischool.dto.TranslateRequest;
+import com.aischool.dto.TranslateResponse;
+import com.aischool.dto.TranslationProgressEvent;
+import com.aischool.dto.TranslationProgressEvent.Stage;
+import com.aischool.entity.Contents;
+import com.aischool.entity.TranslationJob;
+import com.aischool.repository.TranslationJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 번역 작업(Job) 접수/실행 담당
+ * - 요청 스레드는 Job row만 저장하고 즉시 반환
+ * - 대상 언어마다 job 1개, Perso 프로젝트는 요청당 1회 생성 후 언어별 EXPORT 를 병렬 생성
+ * - 완료 감지는 공용 ExportStatusPoller (웹훅 수신 시 즉시 확인) → future 완료 시 결과 수집
+ * - 실행 순서/동시 실행 수는 TranslationScheduler (우선순위 클래스 + 사용자별 공정 큐)
+ */
+@Service
+@Slf4j
+public class TranslationJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final long EARLY_SCRIPTS_WAIT_SECONDS = 30;
+    /** 저장 후 줄 수가 이 횟수만큼 연속으로 그대로면 선저장 조회 중단 (번역문이 다 나온 것으로 판단) */
+    private static final int EARLY_SCRIPTS_STABLE_CHECKS = 2;
+    private static final String QUEUE_FULL_MESSAGE = "번역 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.";
+
+    private final TranslationJobRepository jobRepo;
+    private final TranslationService translationService;
+    private final ExportStatusPoller poller;
+    private final TranslationScheduler scheduler;
+    private final ExportEtaEstimator etaEstimator;
+    private final TranslationProgressHub progress;
+    private final TaskExecutor executor;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<TranslationJob>> watchers = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<Void>> earlyScriptRuns = new ConcurrentHashMap<>();
+    private final Map<Long, EarlyScriptState> earlyScriptStates = new ConcurrentHashMap<>();
+    private final boolean earlyScripts;
+    private final long earlyScriptsIntervalMs;
+
+    public TranslationJobService(
+            TranslationJobRepository jobRepo,
+            TranslationService translationService,
+            ExportStatusPoller poller,
+            TranslationScheduler scheduler,
+            ExportEtaEstimator etaEstimator,
+            TranslationProgressHub progress,
+            @Qualifier("translationExecutor") TaskExecutor executor,
+            @Value("${translation.early-scripts.enabled:true}") boolean earlyScripts,
+            @Value("${translation.early-scripts.interval-ms:30000}") long earlyScriptsIntervalMs
+    ) {
+        this.jobRepo = jobRepo;
+        this.translationService = translationService;
+        this.poller = poller;
+        this.scheduler = scheduler;
+        this.etaEstimator = etaEstimator;
+        this.progress = progress;
+        this.executor = executor;
+        this.earlyScripts = earlyScripts;
+        this.earlyScriptsIntervalMs = earlyScriptsIntervalMs;
+    }
+
+    /**
+     * 대상 언어별 Job 저장 후 워커 풀에 등록 (프로젝트 생성은 한 번만)
+     * - 이미 완료된 번역본이 있으면 Perso 호출 없이 즉시 COMPLETED
+     * - 같은 sourceKey+언어가 진행 중이면 그 작업의 결과를 공유 (singleflight)
+     */
+    public List<TranslationJob> submit(TranslateRequest req, String requestedBy, TranslationJob.Priority priority) {
+        String sourceKey = translationService.sourceKeyOf(req);
+        translationService.prefetchSource(req);
+        List<TranslationJob> jobs = new ArrayList<>();
+        List<TranslationJob> leaders = new ArrayList<>();
+
+        for (String lang : req.resolveTargetLangs()) {
+            TranslationJob job = TranslationJob.from(req, lang);
+            job.setSourceKey(sourceKey);
+            job.setPriority(priority);
+            job.setRequestedBy(requestedBy);
+            jobs.add(admit(jobRepo.save(job), leaders));
+        }
+        if (!leaders.isEmpty() && !dispatch(leaders)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Translation queue is full");
+        }
+        return jobs;
+    }
+
+    /**
+     * 재기동 시 미완료 job 이어받기 (Perso 작업을 버리지 않도록)
+     * - EXPORTING: poller 에 다시 연결
+     * - FINALIZING: 저장까지 끝났으면 완료 처리, 아니면 EXPORTING 으로 되돌려 다시 수집
+     * - QUEUED/PROCESSING: 중복 확인 후 다시 실행 (원본의 projectId 가 있으면 프로젝트 재사용)
+     */
+    public void recoverUnfinished() {
+        List<TranslationJob> unfinished = jobRepo.findByStatusIn(List.of(
+                TranslationJob.Status.QUEUED, TranslationJob.Status.PROCESSING,
+                TranslationJob.Status.EXPORTING, TranslationJob.Status.FINALIZING));
+        if (unfinished.isEmpty()) return;
+        log.info("[Recovery] resuming {} unfinished translation job(s)", unfinished.size());
+
+        List<TranslationJob> restart = new ArrayList<>();
+        for (TranslationJob job : unfinished) {
+            if (job.getStatus() == TranslationJob.Status.FINALIZING) {
+                Optional<Contents> saved = translationService.findTranslationByExport(job.getExportId());
+                if (saved.isPresent()) {
+                    completeFrom(job, saved.get());
+                    notifyFinished(jobRepo.save(job));
+                    continue;
+                }
+                job.setStatus(TranslationJob.Status.EXPORTING);
+                job.setUpdatedAt(LocalDateTime.now());
+                job = jobRepo.save(job);
+            }
+
+            if (job.getStatus() == TranslationJob.Status.EXPORTING && job.getExportId() != null) {
+                resumeExport(job);
+            } else {
+                job.setStatus(TranslationJob.Status.QUEUED);
+                job.setUpdatedAt(LocalDateTime.now());
+                restart.add(jobRepo.save(job));
+            }
+        }
+
+        // 같은 원본끼리 묶어서 프로젝트 확보를 한 번만
+        List<TranslationJob> leaders = new ArrayList<>();
+        restart.forEach(job -> admit(job, leaders));
+        leaders.stream()
+                .collect(Collectors.groupingBy(
+                        job -> Optional.ofNullable(job.getSourceKey()).orElse("job-" + job.getJobId()),
+                        LinkedHashMap::new, Collectors.toList()))
+                .values()
+                .forEach(this::dispatch);
+    }
+
+    /**
+     * 완료 번역본 재사용 / 진행 중 작업 합류 / 새 leader 등록 중 하나로 분류
+     * @param leaders 새로 실행해야 할 job 이 추가됨
+     */
+    private TranslationJob admit(TranslationJob job, List<TranslationJob> leaders) {
+        // in-flight 에 먼저 등록한 뒤 완료본 확인 (확인~등록 사이에 leader 가 끝나 중복 export 가 생기지 않도록)
+        InFlight mine = new InFlight(job.getJobId(), new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(inFlightKey(job), mine);
+        if (existing != null) {
+            follow(job, existing);
+            return job;
+        }
+
+        Optional<Contents> done = translationService.findCompletedTranslation(job.getSourceKey(), job.getTargetLang());
+        if (done.isPresent()) {
+            completeFrom(job, done.get());
+            log.info("[Job] reused contentsId={} for target={}", done.get().getContentsId(), job.getTargetLang());
+            TranslationJob saved = notifyFinished(jobRepo.save(job));
+            // 그 사이 합류한 follower 에게도 같은 결과 전달
+            inFlight.remove(inFlightKey(job), mine);
+            mine.future().complete(saved);
+            return saved;
+        }
+
+        leaders.add(job);
+        return job;
+    }
+
+    /** leader job 묶음을 스케줄러에 등록 (슬롯이 나면 워커 풀에서 실행, 대기열이 가득 차면 실패 처리) */
+    private boolean dispatch(List<TranslationJob> leaders) {
+        List<Long> jobIds = leaders.stream().map(TranslationJob::getJobId).toList();
+        TranslationJob first = leaders.get(0);
+        boolean accepted = scheduler.enqueue(first.getRequestedBy(), first.getPriority(), jobIds, () -> {
+            try {
+                executor.execute(() -> processBatch(jobIds));
+            } catch (TaskRejectedException ex) {
+                log.warn("[Job] worker queue full, jobs {} rejected", jobIds);
+                leaders.forEach(job -> markFailed(job, QUEUE_FULL_MESSAGE));
+            }
+        });
+        if (!accepted) {
+            log.warn("[Job] scheduler queue full, jobs {} rejected", jobIds);
+            leaders.forEach(job -> markFailed(job, QUEUE_FULL_MESSAGE));
+            return false;
+        }
+        log.info("[Job] queued jobs={} targets={} priority={}", jobIds,
+                leaders.stream().map(TranslationJob::getTargetLang).toList(), first.getPriority());
+        return true;
+    }
+
+    /** EXPORTING job 을 leader 로 다시 등록하고 poller 에 연결 */
+    private void resumeExport(TranslationJob job) {
+        if (job.getSourceKey() != null) {
+            inFlight.putIfAbsent(inFlightKey(job), new InFlight(job.getJobId(), new CompletableFuture<>()));
+        }
+        log.info("[Job] re-attaching job={} export={}", job.getJobId(), job.getExportId());
+        scheduler.occupy(job.getJobId());   // Perso 에서 진행 중이므로 슬롯 사용 중
+        awaitExport(job);
+    }
+
+    /** 진행 중인 동일 작업(leader)의 결과를 follower job 에 그대로 반영 */
+    private void follow(TranslationJob follower, InFlight leader) {
+        log.info("[Job] job={} joins in-flight job={}", follower.getJobId(), leader.jobId());
+        progress.link(follower.getJobId(), leader.jobId());
+        leader.future().whenComplete((result, err) -> {
+            if (err == null && result.getStatus() == TranslationJob.Status.COMPLETED) {
+                follower.setProjectId(result.getProjectId());
+                follower.setExportId(result.getExportId());
+                follower.setContentsId(result.getContentsId());
+                follower.setStatus(TranslationJob.Status.COMPLETED);
+                follower.setUpdatedAt(LocalDateTime.now());
+                follower.setCompletedAt(LocalDateTime.now());
+                notifyFinished(jobRepo.save(follower));
+            } else {
+                String reason = (err != null) ? errorMessage(err) : result.getErrorMessage();
+                markFailed(follower, "동일 번역 작업 실패: " + reason);
+            }
+        });
+    }
+
+    /** 종료된 leader job 을 in-flight 목록에서 제거하고 follower 들에게 결과 전달 */
+    private void settle(TranslationJob job) {
+        scheduler.release(job.getJobId());
+        if (job.getSourceKey() == null) return;
+        InFlight entry = inFlight.get(inFlightKey(job));
+        if (entry != null && entry.jobId().equals(job.getJobId()) && inFlight.remove(inFlightKey(job), entry)) {
+            entry.future().complete(job);
+        }
+    }
+
+    private static String inFlightKey(TranslationJob job) {
+        return job.getSourceKey() + "|" + job.getTargetLang();
+    }
+
+    private static void completeFrom(TranslationJob job, Contents translated) {
+        LocalDateTime now = LocalDateTime.now();
+        job.setProjectId(translated.getProjectId());
+        job.setExportId(translated.getExportId());
+        job.setContentsId(translated.getContentsId());
+        job.setStatus(TranslationJob.Status.COMPLETED);
+        job.setUpdatedAt(now);
+        job.setCompletedAt(now);
+    }
+
+    public Optional<TranslationJob> findJob(Long jobId) {
+        return jobRepo.findById(jobId);
+    }
+
+    /** EXPORTING job 의 예상 완료 시각 (과거 실측 기반, 없으면 empty) */
+    public Optional<LocalDateTime> expectedCompletionAt(TranslationJob job) {
+        return etaEstimator.expectedCompletionAt(job);
+    }
+
+    /** 워커 스레드에서 실행: 프로젝트 1회 생성 후 언어별 EXPORT 생성을 병렬로 분기 */
+    void processBatch(List<Long> jobIds) {
+        List<TranslationJob> jobs = jobRepo.findAllById(jobIds).stream()
+                .filter(job -> job.getStatus() == TranslationJob.Status.QUEUED)
+                .toList();
+        // 이미 다른 경로로 처리된 job 은 슬롯 반환
+        Set<Long> runnable = jobs.stream().map(TranslationJob::getJobId).collect(Collectors.toSet());
+        jobIds.stream().filter(id -> !runnable.contains(id)).forEach(scheduler::release);
+        if (jobs.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        jobs.forEach(job -> {
+            job.setStatus(TranslationJob.Status.PROCESSING);
+            job.setUpdatedAt(now);
+        });
+        jobs = jobRepo.saveAll(jobs);
+
+        TranslationService.ProjectHandle project;
+        try {
+            project = translationService.startProject(jobs.get(0).toRequest());
+        } catch (Exception e) {
+            log.error("[Job] failed to create project for jobs={}", jobIds, e);
+            jobs.forEach(job -> markFailed(job, errorMessage(e)));
+            return;
+        }
+
+        for (TranslationJob job : jobs) {
+            job.setProjectId(project.getProjectId());
+            job.setStoryTitle(project.getStoryTitle());
+            job.setSourceKey(project.getSourceKey());
+            job.setOriginalContentsId(project.getOriginalContentsId());
+            if (job.getDurationSec() == null || job.getDurationSec() <= 1) {
+                // 요청에 길이가 없으면 원본에 기록된 실제 길이로 ETA 버킷을 잡음
+                job.setDurationSec(project.getOriginalDurationSec());
+            }
+            progress.publish(TranslationProgressEvent.of(job, Stage.PROJECT_CREATED).build());
+            try {
+                executor.execute(() -> startExport(job));
+            } catch (TaskRejectedException ex) {
+                startExport(job);
+            }
+        }
+    }
+
+    /** 언어별 EXPORT 생성 후 EXPORTING 으로 전환하고 완료 future 연결 */
+    private void startExport(TranslationJob job) {
+        try {
+            translationService.createExport(job, scheduler.persoPriority(job.getPriority()));
+            job.setStatus(TranslationJob.Status.EXPORTING);
+            job.setExportStartedAt(LocalDateTime.now());
+            job.setUpdatedAt(LocalDateTime.now());
+            jobRepo.save(job);
+            progress.publish(TranslationProgressEvent.of(job, Stage.EXPORT_QUEUED)
+                    .expectedCompletionAt(etaEstimator.expectedCompletionAt(job).orElse(null))
+                    .build());
+            awaitExport(job);
+        } catch (Exception e) {
+            log.error("[Job] failed to start export job={}", job.getJobId(), e);
+            markFailed(job, errorMessage(e));
+        }
+    }
+
+    /** Perso 웹훅 수신: 공용 poller 에 즉시 확인 요청 (미추적 export 면 추적 재개) */
+    public boolean onExportCallback(String exportId) {
+        if (poller.checkNow(exportId)) return true;
+
+        Optional<TranslationJob> found = jobRepo.findFirstByExportId(exportId);
+        if (found.isEmpty() || found.get().getStatus() != TranslationJob.Status.EXPORTING) {
+            log.info("[Webhook] no pending job for export {}", exportId);
+            return false;
+        }
+        resumeExport(found.get());
+        poller.checkNow(exportId);
+        return true;
+    }
+
+    /** poller 가 추적하지 않는 EXPORTING job 을 다시 연결 (재기동/큐 거절 대비) */
+    public void adoptUntrackedExports() {
+        List<TranslationJob> exporting = jobRepo.findByStatus(TranslationJob.Status.EXPORTING);
+        for (TranslationJob job : exporting) {
+            if (job.getExportId() != null && !poller.isTracking(job.getExportId())) {
+                resumeExport(job);
+            }
+        }
+    }
+
+    /** export 완료 future 에 결과 수집/실패 처리를 연결 (과거 실측 기반 ETA 로 확인 간격 조절, 진행 상태는 SSE 로 중계) */
+    private void awaitExport(TranslationJob job) {
+        long startedAt = (job.getExportStartedAt() != null)
+                ? job.getExportStartedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        poller.track(job.getExportId(), startedAt, etaEstimator.estimate(job).orElse(null),
+                        status -> {
+                            progress.publish(TranslationProgressEvent.of(job, Stage.EXPORT_PROCESSING)
+                                    .persoStatus(status.status())
+                                    .progress(status.progress())
+                                    .expectedCompletionAt(etaEstimator.expectedCompletionAt(job).orElse(null))
+                                    .build());
+                            collectEarlyScripts(job);
+                        })
+                .whenCompleteAsync((export, err) -> {
+                    if (err == null) {
+                        finishExport(job, export);
+                    } else if (jobRepo.transition(job.getJobId(), TranslationJob.Status.EXPORTING,
+                            TranslationJob.Status.FAILED, LocalDateTime.now()) > 0) {
+                        markFailed(job, errorMessage(err));
+                    }
+                }, executor);
+    }
+
+    /** 완료된 export 결과 수집 (EXPORTING → FINALIZING 선점에 성공한 경우만) */
+    private void finishExport(TranslationJob job, PersoExportResponse export) {
+        Long jobId = job.getJobId();
+        if (jobRepo.transition(jobId, TranslationJob.Status.EXPORTING,
+                TranslationJob.Status.FINALIZING, LocalDateTime.now()) == 0) {
+            log.debug("[Job] job={} already finalized by another path", jobId);
+            return;
+        }
+        job.setStatus(TranslationJob.Status.FINALIZING);
+        job.setExportFinishedAt(LocalDateTime.now());
+        awaitEarlyScripts(jobId);
+
+        try {
+            TranslateResponse res = translationService.completeExport(job, export);
+            // completeExport 가 실제 영상 길이를 job 에 채운 뒤에 실측값 반영
+            etaEstimator.record(job);
+            job.setContentsId(res.getContentsId());
+            job.setStatus(TranslationJob.Status.COMPLETED);
+            job.setUpdatedAt(LocalDateTime.now());
+            job.setCompletedAt(LocalDateTime.now());
+            notifyFinished(jobRepo.save(job));
+            settle(job);
+            log.info("[Job] completed job={} contentsId={}", jobId, res.getContentsId());
+        } catch (Exception e) {
+            log.error("[Job] failed to finalize job={}", jobId, e);
+            markFailed(job, errorMessage(e));
+        }
+    }
+
+    /**
+     * export 진행 중 Perso 프로젝트 상세의 스크립트를 먼저 저장 (job 당 동시에 1건)
+     * - poller 상태 수신마다가 아니라 job 별 earlyScriptsIntervalMs 간격으로만 프로젝트 상세 조회
+     * - 저장 후 줄 수가 EARLY_SCRIPTS_STABLE_CHECKS 번 연속 그대로면 더 조회하지 않음 (나머지는 완료 저장이 처리)
+     * - 처음 저장되면 job 에 번역본 contentsId 를 연결하고 SCRIPTS_SAVED 이벤트 전송
+     */
+    private void collectEarlyScripts(TranslationJob job) {
+        Long jobId = job.getJobId();
+        if (!earlyScripts || job.getStatus() != TranslationJob.Status.EXPORTING) return;
+        EarlyScriptState state = earlyScriptStates.computeIfAbsent(jobId, id -> new EarlyScriptState());
+        long now = System.currentTimeMillis();
+        if (state.stableChecks >= EARLY_SCRIPTS_STABLE_CHECKS || now < state.nextCheckAt) return;
+        CompletableFuture<Void> run = new CompletableFuture<>();
+        if (earlyScriptRuns.putIfAbsent(jobId, run) != null) return;
+        state.nextCheckAt = now + earlyScriptsIntervalMs;
+        try {
+            executor.execute(() -> {
+                try {
+                    if (job.getStatus() != TranslationJob.Status.EXPORTING) return;
+                    int before = state.lines;
+                    Optional<TranslationService.EarlyScripts> result = translationService.saveEarlyScripts(job, before);
+                    if (result.isEmpty()) {
+                        // 번역문이 아직 없으면(before == 0) 계속 확인, 저장 이후 변화 없음이면 안정 횟수 증가
+                        if (before > 0) state.stableChecks++;
+                        return;
+                    }
+                    TranslationService.EarlyScripts saved = result.get();
+                    state.lines = saved.getLines();
+                    state.stableChecks = 0;
+                    if (before == 0) {
+                        jobRepo.attachContents(jobId, saved.getContentsId(), LocalDateTime.now());
+                        job.setContentsId(saved.getContentsId());
+                        progress.publish(TranslationProgressEvent.of(job, Stage.SCRIPTS_SAVED)
+                                .contentsId(saved.getContentsId())
+                                .build());
+                    }
+                } catch (Exception e) {
+                    log.warn("[Job] early scripts failed job={}: {}", jobId, e.getMessage());
+                } finally {
+                    earlyScriptRuns.remove(jobId, run);
+                    run.complete(null);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            earlyScriptRuns.remove(jobId, run);
+            run.complete(null);
+        }
+    }
+
+    /**
+     * 진행 중인 스크립트 선저장이 끝난 뒤 최종 저장 (번역본 row 중복 생성 방지)
+     * - 워커 풀이 꽉 차 선저장이 아직 대기 중이면 무한정 기다리지 않음 (그 작업은 FINALIZING 을 보고 건너뜀)
+     */
+    private void awaitEarlyScripts(Long jobId) {
+        CompletableFuture<Void> run = earlyScriptRuns.get(jobId);
+        if (run == null) return;
+        try {
+            run.get(EARLY_SCRIPTS_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("[Job] early scripts still running for job={}, finalizing anyway", jobId);
+        }
+    }
+
+    /**
+     * 실패한 job 의 선저장 번역본 정리 (영상 없는 SCRIPTS_READY row 가 목록에 계속 남지 않도록)
+     * - 진행 중인 선저장이 끝난 뒤 확인 (FAILED 로 바뀐 뒤에는 새 선저장이 시작되지 않음)
+     */
+    private void discardEarlyScripts(TranslationJob job) {
+        awaitEarlyScripts(job.getJobId());
+        if (job.getContentsId() == null) return;
+        try {
+            if (translationService.discardEarlyScripts(job.getContentsId())) {
+                log.info("[Job] discarded early scripts job={} contentsId={}", job.getJobId(), job.getContentsId());
+                job.setContentsId(null);
+            }
+        } catch (Exception e) {
+            log.warn("[Job] failed to discard early scripts job={}: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private static String errorMessage(Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        return Optional.ofNullable(cause.getMessage()).orElse(cause.getClass().getSimpleName());
+    }
+
+    private void markFailed(TranslationJob job, String message) {
+        job.setStatus(TranslationJob.Status.FAILED);
+        discardEarlyScripts(job);
+        job.setErrorMessage(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        job.setUpdatedAt(LocalDateTime.now());
+        job.setCompletedAt(LocalDateTime.now());
+        notifyFinished(jobRepo.save(job));
+        settle(job);
+    }
+
+    /**
+     * job 이 COMPLETED/FAILED 가 되면 완료되는 future (일괄 등록 등에서 진행 상황 추적용)
+     * - 이미 끝난 job 이면 즉시 완료
+     */
+    public CompletableFuture<TranslationJob> whenFinished(Long jobId) {
+        CompletableFuture<TranslationJob> future = watchers.computeIfAbsent(jobId, id -> new CompletableFuture<>());
+        // 등록 전에 끝났을 수 있으므로 DB 상태 재확인
+        jobRepo.findById(jobId).filter(TranslationJob::isFinished).ifPresent(this::notifyFinished);
+        return future;
+    }
+
+    private TranslationJob notifyFinished(TranslationJob job) {
+        CompletableFuture<TranslationJob> future = watchers.remove(job.getJobId());
+        if (future != null) future.complete(job);
+        earlyScriptStates.remove(job.getJobId());
+        progress.finished(job);
+        return job;
+    }
+
+    /** job 별 스크립트 선저장 상태 (같은 job 의 선저장은 한 번에 1건만 실행되므로 필드 갱신은 그 실행 안에서만) */
+    private static final class EarlyScriptState {
+        volatile long nextCheckAt;
+        volatile int lines;          // 마지막으로 저장한 줄 수 (0 = 아직 저장 전)
+        volatile int stableChecks;   // 저장 후 줄 수 변화 없이 지난 조회 수
+    }
+
+    /** 진행 중인 sourceKey+언어 작업 (leader jobId + 결과 future) */
+    private record InFlight(Long jobId, CompletableFuture<TranslationJob> future) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.aischool.service;
+
+import com.aischool.dto.TranslationProgressEvent;
+import com.aischool.dto.TranslationProgressEvent.Stage;
+import com.aischool.entity.TranslationJob;
+import com.aischool.repository.TranslationJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번역 job 진행 단계 SSE 중계
+ * - 파이프라인 각 단계(프로젝트 생성 → export 대기/진행 → 다운로드 → 저장 → 완료/실패)에서 publish
+ * - 구독 시 현재 단계를 먼저 보내고, 이후 이벤트를 이어서 전송 (재연결해도 현재 상태부터)
+ * - 진행 중인 동일 작업에 합류한 follower job 은 leader 의 중간 단계를 그대로 받음
+ * - 프록시가 유휴 연결을 끊지 않도록 heartbeat 주석 전송
+ */
+@Component
+@Slf4j
+public class TranslationProgressHub {
+
+    private final TranslationJobRepository jobRepo;
+    private final long timeoutMs;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, TranslationProgressEvent> latest = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> followers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "progress-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TranslationProgressHub(
+            TranslationJobRepository jobRepo,
+            @Value("${translation.progress.sse-timeout-ms:1800000}") long timeoutMs,
+            @Value("${translation.progress.heartbeat-ms:20000}") long heartbeatMs
+    ) {
+        this.jobRepo = jobRepo;
+        this.timeoutMs = timeoutMs;
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.shutdownNow();
+    }
+
+    /**
+     * job 진행 이벤트 구독 (현재 단계 1건을 즉시 전송, 이미 끝난 job 이면 결과만 보내고 종료)
+     * @return job 이 없으면 empty
+     */
+    public Optional<SseEmitter> subscribe(Long jobId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Set<SseEmitter> set = subscribers.computeIfAbsent(jobId, id -> new CopyOnWriteArraySet<>());
+        set.add(emitter);
+        emitter.onCompletion(() -> unsubscribe(jobId, emitter));
+        emitter.onTimeout(() -> unsubscribe(jobId, emitter));
+        emitter.onError(e -> unsubscribe(jobId, emitter));
+
+        // 등록 후에 상태를 읽어야 그 사이에 끝난 job 의 완료 이벤트를 놓치지 않음
+        Optional<TranslationJob> job = jobRepo.findById(jobId);
+        if (job.isEmpty()) {
+            unsubscribe(jobId, emitter);
+            return Optional.empty();
+        }
+        TranslationJob current = job.get();
+        if (current.isFinished()) {
+            send(emitter, terminal(current));
+            emitter.complete();
+        } else {
+            send(emitter, Optional.ofNullable(latest.get(jobId)).orElseGet(() -> snapshot(current)));
+        }
+        return Optional.of(emitter);
+    }
+
+    /** 중간 단계 이벤트 전송 (follower 구독자에게도 jobId 만 바꿔 전달) */
+    public void publish(TranslationProgressEvent event) {
+        deliver(event);
+        Set<Long> joined = followers.get(event.getJobId());
+        if (joined != null) {
+            for (Long followerId : joined) deliver(event.toBuilder().jobId(followerId).build());
+        }
+    }
+
+    /** follower job 이 leader 의 진행 단계를 받도록 연결 */
+    public void link(Long followerId, Long leaderId) {
+        followers.computeIfAbsent(leaderId, id -> ConcurrentHashMap.newKeySet()).add(followerId);
+        TranslationProgressEvent current = latest.get(leaderId);
+        if (current != null) deliver(current.toBuilder().jobId(followerId).build());
+    }
+
+    /** job 종료 → DONE/FAILED 전송 후 구독 종료, 상태 정리 */
+    public void finished(TranslationJob job) {
+        Long jobId = job.getJobId();
+        Set<SseEmitter> set = subscribers.remove(jobId);
+        if (set != null) {
+            TranslationProgressEvent event = terminal(job);
+            for (SseEmitter emitter : set) {
+                send(emitter, event);
+                emitter.complete();
+            }
+        }
+        latest.remove(jobId);
+        followers.remove(jobId);
+        followers.values().forEach(joined -> joined.remove(jobId));
+    }
+
+    private void deliver(TranslationProgressEvent event) {
+        latest.put(event.getJobId(), event);
+        Set<SseEmitter> set = subscribers.get(event.getJobId());
+        if (set == null) return;
+        for (SseEmitter emitter : set) send(emitter, event);
+    }
+
+    private void send(SseEmitter emitter, TranslationProgressEvent event) {
+        try {
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event().data(event));
+            }
+        } catch (Exception e) {
+            // 클라이언트 연결 종료 → 정리는 onError/onCompletion 에서
+            log.debug("[Progress] send failed for job={}: {}", event.getJobId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribers.forEach((jobId, set) -> {
+            for (SseEmitter emitter : set) {
+                try {
+                    synchronized (emitter) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    }
+                } catch (Exception e) {
+                    unsubscribe(jobId, emitter);
+                }
+            }
+        });
+    }
+
+    private void unsubscribe(Long jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /** 메모리에 단계 정보가 없을 때 (재기동 등) DB 상태로 현재 단계 추정 */
+    private static TranslationProgressEvent snapshot(TranslationJob job) {
+        Stage stage = switch (job.getStatus()) {
+            case EXPORTING -> Stage.EXPORT_QUEUED;
+            case FINALIZING -> Stage.DOWNLOADING;
+            default -> Stage.QUEUED;
+        };
+        return TranslationProgressEvent.of(job, stage).build();
+    }
+
+    private static TranslationProgressEvent terminal(TranslationJob job) {
+        return job.getStatus() == TranslationJob.Status.COMPLETED
+                ? TranslationProgressEvent.of(job, Stage.DONE).contentsId(job.getContentsId()).build()
+                : TranslationProgressEvent.of(job, Stage.FAILED).message(job.getErrorMessage()).build();
+    }
+}
@@ -0,0 +1,193 @@
+package com.aischool.service;
+
+import com.aischool.entity.TranslationJob.Priority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 번역 작업 스케줄러 (우선순위 클래스 + 사용자별 공정 큐 + 전역 동시 실행 한도)
+ * - 동시에 진행 중인 Perso export 수를 maxActive(Perso 할당량) 이하로 유지
+ * - INTERACTIVE(단건 요청)가 BULK(카탈로그 일괄 등록)보다 항상 먼저, BULK 는 interactiveReserved 칸을 남겨둠
+ * - 같은 클래스 안에서는 사용자별 round-robin → 한 사용자의 대량 요청이 다른 사용자를 막지 않음
+ * - 슬롯은 leader job 이 COMPLETED/FAILED 로 끝날 때 release 로 반환
+ */
+@Component
+@Slf4j
+public class TranslationScheduler {
+
+    private final MeterRegistry meters;
+    private final int maxActive;
+    private final int interactiveReserved;
+    private final int maxQueued;
+    private final Map<Priority, Integer> persoPriority = new EnumMap<>(Priority.class);
+
+    private final Map<Priority, FairQueue> queues = new EnumMap<>(Priority.class);
+    private final Set<Long> active = new HashSet<>();
+
+    public TranslationScheduler(
+            MeterRegistry meters,
+            @Value("${translation.scheduler.max-active:4}") int maxActive,
+            @Value("${translation.scheduler.interactive-reserved:1}") int interactiveReserved,
+            @Value("${translation.scheduler.max-queued:500}") int maxQueued,
+            @Value("${translation.scheduler.perso-priority.interactive:0}") int interactivePersoPriority,
+            @Value("${translation.scheduler.perso-priority.bulk:1}") int bulkPersoPriority
+    ) {
+        this.meters = meters;
+        this.maxActive = Math.max(1, maxActive);
+        this.interactiveReserved = Math.max(0, Math.min(interactiveReserved, this.maxActive - 1));
+        this.maxQueued = maxQueued;
+        this.persoPriority.put(Priority.INTERACTIVE, interactivePersoPriority);
+        this.persoPriority.put(Priority.BULK, bulkPersoPriority);
+
+        for (Priority p : Priority.values()) {
+            FairQueue q = new FairQueue();
+            queues.put(p, q);
+            Gauge.builder("translation.queue.depth", q, FairQueue::jobCount)
+                    .tag("class", p.name())
+                    .register(meters);
+        }
+        Gauge.builder("translation.active", this, TranslationScheduler::activeCount).register(meters);
+    }
+
+    /**
+     * 실행 대기열에 등록 (슬롯이 비어있으면 바로 실행)
+     * @param jobIds 함께 실행할 leader job 묶음 (언어별 export 1개씩 슬롯 사용)
+     * @param task   슬롯 확보 시 실행할 작업 (호출 스레드에서 실행되므로 워커 풀에 넘기기만 해야 함)
+     * @return 대기열이 가득 차면 false
+     */
+    public boolean enqueue(String user, Priority priority, List<Long> jobIds, Runnable task) {
+        Priority p = (priority == null) ? Priority.INTERACTIVE : priority;
+        synchronized (this) {
+            if (queuedCount() + jobIds.size() > maxQueued) return false;
+            queues.get(p).add(new Work(user == null ? "anonymous" : user, p, List.copyOf(jobIds), task,
+                    System.nanoTime()));
+        }
+        drain();
+        return true;
+    }
+
+    /** jobCount 개 job 을 지금 대기열에 더 넣을 수 있는지 (접수 전 확인용, 실제 등록은 enqueue 가 다시 판단) */
+    public synchronized boolean hasRoom(int jobCount) {
+        return queuedCount() + jobCount <= maxQueued;
+    }
+
+    /** 재기동 시 이미 Perso 에서 진행 중인 export 를 슬롯 사용 중으로 등록 (한도와 무관) */
+    public synchronized void occupy(Long jobId) {
+        active.add(jobId);
+    }
+
+    /** leader job 종료 → 슬롯 반환 후 다음 작업 실행 (중복 호출 무해) */
+    public void release(Long jobId) {
+        boolean released;
+        synchronized (this) {
+            released = active.remove(jobId);
+        }
+        if (released) drain();
+    }
+
+    /** 클래스별 Perso export priority 값 */
+    public int persoPriority(Priority priority) {
+        return persoPriority.getOrDefault(priority == null ? Priority.INTERACTIVE : priority, 0);
+    }
+
+    public synchronized int activeCount() {
+        return active.size();
+    }
+
+    private int queuedCount() {
+        int n = 0;
+        for (FairQueue q : queues.values()) n += q.jobCount();
+        return n;
+    }
+
+    /** 빈 슬롯만큼 대기 작업 실행 (INTERACTIVE 우선, BULK 는 예약 슬롯 제외) */
+    private void drain() {
+        List<Work> ready = new ArrayList<>();
+        synchronized (this) {
+            while (true) {
+                int free = maxActive - active.size();
+                Work next = null;
+                Work head = queues.get(Priority.INTERACTIVE).peek();
+                if (head != null && fits(head, free)) {
+                    next = queues.get(Priority.INTERACTIVE).poll();
+                } else if (head == null) {
+                    Work bulk = queues.get(Priority.BULK).peek();
+                    if (bulk != null && fits(bulk, free - interactiveReserved)) {
+                        next = queues.get(Priority.BULK).poll();
+                    }
+                }
+                if (next == null) break;
+                active.addAll(next.jobIds());
+                ready.add(next);
+            }
+        }
+        for (Work work : ready) {
+            Duration waited = Duration.ofNanos(System.nanoTime() - work.enqueuedAt());
+            Timer.builder("translation.queue.wait")
+                    .tag("class", work.priority().name())
+                    .register(meters)
+                    .record(waited);
+            log.info("[Scheduler] start {} jobs={} user={} (waited {}ms, active {}/{})",
+                    work.priority(), work.jobIds(), work.user(), waited.toMillis(), activeCount(), maxActive);
+            work.task().run();
+        }
+    }
+
+    /** 한도보다 큰 묶음은 실행 중인 작업이 하나도 없을 때만 허용 (영원히 대기하지 않도록) */
+    private boolean fits(Work work, int free) {
+        return work.jobIds().size() <= free || active.isEmpty();
+    }
+
+    private record Work(String user, Priority priority, List<Long> jobIds, Runnable task, long enqueuedAt) {
+    }
+
+    /** 사용자별 FIFO + 사용자 간 round-robin */
+    private static final class FairQueue {
+        private final LinkedHashMap<String, Deque<Work>> byUser = new LinkedHashMap<>();
+        private int jobs;
+
+        synchronized void add(Work work) {
+            byUser.computeIfAbsent(work.user(), u -> new ArrayDeque<>()).addLast(work);
+            jobs += work.jobIds().size();
+        }
+
+        synchronized Work peek() {
+            Iterator<Deque<Work>> it = byUser.values().iterator();
+            return it.hasNext() ? it.next().peekFirst() : null;
+        }
+
+        /** 맨 앞 사용자의 작업을 꺼내고, 남은 작업이 있으면 그 사용자를 맨 뒤로 */
+        synchronized Work poll() {
+            Iterator<Map.Entry<String, Deque<Work>>> it = byUser.entrySet().iterator();
+            if (!it.hasNext()) return null;
+            Map.Entry<String, Deque<Work>> first = it.next();
+            String user = first.getKey();
+            Deque<Work> pending = first.getValue();
+            Work work = pending.pollFirst();
+            it.remove();
+            if (!pending.isEmpty()) byUser.put(user, pending);
+            jobs -= work.jobIds().size();
+            return work;
+        }
+
+        synchronized int jobCount() {
+            return jobs;
+        }
+    }
+}
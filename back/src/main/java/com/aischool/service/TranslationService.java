@@ -1,29 +1,32 @@
 package com.aischool.service;
 
 import com.aischool.client.PersoClient;
+import com.aischool.dto.PersoExportResponse;
+import com.aischool.dto.PersoProjectDetail;
+import com.aischool.dto.PersoProjectResponse;
+import com.aischool.dto.PersoScript;
 import com.aischool.dto.TranslateRequest;
 import com.aischool.dto.TranslateResponse;
+import com.aischool.dto.TranslationProgressEvent;
+import com.aischool.dto.TranslationProgressEvent.Stage;
 import com.aischool.entity.Contents;
 import com.aischool.entity.Script;
+import com.aischool.entity.TranslationJob;
 import com.aischool.repository.ContentsRepository;
-import com.aischool.repository.ScriptRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.DigestUtils;
 
-import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Pattern;
 
 @Service
 @Slf4j
@@ -33,77 +36,23 @@ public class TranslationService {
     private final PersoClient perso;
     private final FileStorage storage;
     private final ContentsRepository contentsRepo;
-    private final ScriptRepository scriptRepo;
+    private final TranslationStore store;
     private final ThumbnailUrlService thumbnailUrlService;
+    private final LocalMediaIndex mediaIndex;
+    private final SourceMetadataCache sourceMetadata;
+    private final TranslationProgressHub progress;
 
     /* ---------- 공용 유틸 ---------- */
-    private static String getStr(Map<String, Object> m, String k) {
-        return m.get(k) == null ? null : m.get(k).toString();
-    }
-
-    private static Integer getInt(Map<String, Object> m, String k) {
-        Object v = m.get(k);
-        if (v == null) return null;
-        if (v instanceof Number n) return n.intValue();
-        try { return Integer.parseInt(v.toString()); } catch (Exception e) { return null; }
-    }
-
     /** URL decoding (UTF-8) */
     private static String decodeUtf8(String s) {
         try { return URLDecoder.decode(s, StandardCharsets.UTF_8); }
         catch (Exception e) { return s; }
     }
 
-    /** 키 후보 중에서 처음으로 값이 있는 문자열 반환 (작은 유틸) */
-    private static String firstNonBlank(Map<String, Object> src, String... keys) {
-        if (src == null) return null;
-        for (String k : keys) {
-            String v = getStr(src, k);
-            if (v != null && !v.isBlank()) return v;
-        }
-        return null;
-    }
-
-
-    /** Perso 응답에서 썸네일 URL 선택 (로컬 썸네일 탐색과 별개) */
-    private static String pickThumbnailUrl(Map<String, Object> data) {
-        if (data == null) return null;
-        return firstNonBlank(
-                data,
-                "video_output_thumbnail",
-                "input_file_thumbnail_url",
-                "thumbnail_url",
-                "poster_url",
-                "video_thumbnail_url"
-        );
-    }
-
-    /** URL에서 파일명(=제목) 추출 */
+    /** URL에서 파일명(=제목) 추출 (Content-Disposition 은 SourceMetadataCache 에서 캐시) */
     private String resolveTitleFromUrl(String url, String fallback) {
-        try {
-            HttpURLConnection conn = (HttpURLConnection) new java.net.URL(url).openConnection();
-            conn.setInstanceFollowRedirects(true);
-            conn.setRequestMethod("HEAD");
-            conn.setConnectTimeout(10_000);
-            conn.setReadTimeout(10_000);
-            conn.connect();
-
-            String cd = conn.getHeaderField("Content-Disposition");
-            if (cd != null) {
-                var m1 = Pattern.compile("filename\\*=UTF-8''([^;]+)").matcher(cd);
-                if (m1.find()) {
-                    String name = decodeUtf8(m1.group(1));
-                    int dot = name.lastIndexOf('.');
-                    return FileStorage.sanitize(dot > 0 ? name.substring(0, dot) : name);
-                }
-                var m2 = Pattern.compile("filename=\"?([^\";]+)\"?").matcher(cd);
-                if (m2.find()) {
-                    String name = decodeUtf8(m2.group(1));
-                    int dot = name.lastIndexOf('.');
-                    return FileStorage.sanitize(dot > 0 ? name.substring(0, dot) : name);
-                }
-            }
-        } catch (Exception ignore) { /* fallback */ }
+        String title = sourceMetadata.get(url).title();
+        if (title != null && !title.isBlank()) return title;
 
         try {
             String path = new URI(url).getPath();
@@ -157,150 +106,6 @@ public class TranslationService {
         }
     }
 
-    /** 로컬 썸네일 탐색(후보 경로 + 이름 변형) */
-    private static String findLocalThumbPath(String storyTitle) {
-        Path wd = Paths.get("").toAbsolutePath();   // ...\secret\back
-        Path parent = wd.getParent();               // ...\secret
-
-        List<Path> dirCandidates = new ArrayList<>();
-        // 현재 작업 폴더 기준 후보 경로
-        dirCandidates.add(wd.resolve(Paths.get("contents", "thumnail")));   // 오타 폴더도 탐색
-        dirCandidates.add(wd.resolve(Paths.get("contents", "thumbnail")));
-        dirCandidates.add(Paths.get("contents", "thumnail"));               // 상대 경로도 탐색
-        dirCandidates.add(Paths.get("contents", "thumbnail"));
-        // back 상위(모노레포 루트) 기준 후보 경로
-        if (parent != null) {
-            dirCandidates.add(parent.resolve(Paths.get("contents", "thumnail")));
-            dirCandidates.add(parent.resolve(Paths.get("contents", "thumbnail")));
-        }
-
-        log.info("[Thumb] WD={}", wd);
-        if (parent != null) log.info("[Thumb] PARENT={}", parent);
-        for (Path d : dirCandidates) log.info("[Thumb] 후보 경로: {}", d.toAbsolutePath());
-
-        String base = storyTitle.trim();
-        Set<String> nameCandidates = new LinkedHashSet<>(List.of(
-                base,
-                base.replace(' ', '_'),
-                base.replace(' ', '-'),
-                base.toLowerCase(Locale.ROOT),
-                base.toLowerCase(Locale.ROOT).replace(' ', '_'),
-                base.toLowerCase(Locale.ROOT).replace(' ', '-')
-        ));
-        String[] exts = {".jpg", ".jpeg", ".png", ".webp"};
-
-        for (Path dir : dirCandidates) {
-            try {
-                if (!Files.isDirectory(dir)) continue;
-
-                // 정확히 동일한 파일명 우선 탐색
-                for (String n : nameCandidates) {
-                    for (String ext : exts) {
-                        Path p = dir.resolve(n + ext);
-                        if (Files.isRegularFile(p)) {
-                            String found = p.toAbsolutePath().toString();
-                            log.info("[Thumb] 발견: {}", found);
-                            return found;
-                        }
-                    }
-                }
-                // 디렉터리 전체 스캔(대소문자/특수문자 이슈 대응)
-                try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
-                    for (Path p : ds) {
-                        if (!Files.isRegularFile(p)) continue;
-                        String fname = p.getFileName().toString();
-                        int dot = fname.lastIndexOf('.');
-                        if (dot < 0) continue;
-                        String noExt = fname.substring(0, dot);
-                        for (String n : nameCandidates) {
-                            if (noExt.equalsIgnoreCase(n)) {
-                                String found = p.toAbsolutePath().toString();
-                                log.info("[Thumb] 발견: {}", found);
-                                return found;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("[Thumb] 탐색 예외: dir={}", dir, e);
-            }
-        }
-        log.warn("[Thumb] 제목 '{}'에 해당하는 썸네일을 로컬에서 찾지 못했습니다.", storyTitle);
-        return null;
-    }
-
-    /** 로컬 동영상 탐색(후보 경로 + 이름 변형) */
-    private static String findLocalVideoPath(String storyTitle) {
-        Path wd = Paths.get("").toAbsolutePath();   // ...\secret\back
-        Path parent = wd.getParent();               // ...\secret
-
-        List<Path> dirCandidates = new ArrayList<>();
-        // 현재 작업 폴더 기준
-        dirCandidates.add(wd.resolve(Paths.get("contents")));
-        dirCandidates.add(wd.resolve(Paths.get("contents", "video")));
-        dirCandidates.add(wd.resolve(Paths.get("contents", "videos")));
-        // 상대 경로도 시도
-        dirCandidates.add(Paths.get("contents"));
-        dirCandidates.add(Paths.get("contents", "video"));
-        dirCandidates.add(Paths.get("contents", "videos"));
-        // 상위 기준
-        if (parent != null) {
-            dirCandidates.add(parent.resolve(Paths.get("contents")));
-            dirCandidates.add(parent.resolve(Paths.get("contents", "video")));
-            dirCandidates.add(parent.resolve(Paths.get("contents", "videos")));
-        }
-
-        String base = storyTitle.trim();
-        Set<String> nameCandidates = new LinkedHashSet<>(List.of(
-                base,
-                base.replace(' ', '_'),
-                base.replace(' ', '-'),
-                base.toLowerCase(Locale.ROOT),
-                base.toLowerCase(Locale.ROOT).replace(' ', '_'),
-                base.toLowerCase(Locale.ROOT).replace(' ', '-')
-        ));
-        String[] exts = {".mp4", ".mov", ".m4v", ".mkv", ".webm"};
-
-        for (Path dir : dirCandidates) {
-            try {
-                if (!Files.isDirectory(dir)) continue;
-
-                // 정확 매칭 우선
-                for (String n : nameCandidates) {
-                    for (String ext : exts) {
-                        Path p = dir.resolve(n + ext);
-                        if (Files.isRegularFile(p)) {
-                            String found = p.toAbsolutePath().toString();
-                            log.info("[Video] 발견: {}", found);
-                            return found;
-                        }
-                    }
-                }
-                // 느슨 스캔
-                try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
-                    for (Path p : ds) {
-                        if (!Files.isRegularFile(p)) continue;
-                        String fname = p.getFileName().toString();
-                        int dot = fname.lastIndexOf('.');
-                        if (dot < 0) continue;
-                        String noExt = fname.substring(0, dot);
-                        for (String n : nameCandidates) {
-                            if (noExt.equalsIgnoreCase(n)) {
-                                String found = p.toAbsolutePath().toString();
-                                log.info("[Video] 발견: {}", found);
-                                return found;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("[Video] 탐색 예외: dir={}", dir, e);
-            }
-        }
-        log.warn("[Video] 제목 '{}'에 해당하는 로컬 동영상을 찾지 못했습니다.", storyTitle);
-        return null;
-    }
-
     private String buildSourceKey(String normalizedInputUrl, String sourceLang) {
         if (normalizedInputUrl == null || normalizedInputUrl.isBlank()) return null;
         String lang = Optional.ofNullable(sourceLang).orElse("").trim().toLowerCase(Locale.ROOT);
@@ -308,195 +113,219 @@ public class TranslationService {
         return DigestUtils.md5DigestAsHex(payload.getBytes(StandardCharsets.UTF_8));
     }
 
-    private Contents resolveOriginalContents(String sourceKey, String storyTitle, String sourceLang) {
-        if (sourceKey != null && !sourceKey.isBlank()) {
-            Optional<Contents> byKey = contentsRepo.findFirstBySourceKeyAndParentIdIsNull(sourceKey);
-            if (byKey.isPresent()) return byKey.get();
-        }
+    /** 요청의 sourceKey (정규화 URL + 원본 언어 해시, 네트워크 호출 없음) */
+    public String sourceKeyOf(TranslateRequest req) {
+        return buildSourceKey(normalizeInputFileUrl(req.getInputFileUrl()), req.getSourceLang());
+    }
 
-        if (storyTitle != null && !storyTitle.isBlank()
-                && sourceLang != null && !sourceLang.isBlank()) {
-            Optional<Contents> byTitle = contentsRepo
-                    .findFirstByTitleIgnoreCaseAndLanguageAndParentIdIsNull(storyTitle, sourceLang);
-            if (byTitle.isPresent()) {
-                Contents original = byTitle.get();
-                if (sourceKey != null
-                        && (original.getSourceKey() == null || !original.getSourceKey().equals(sourceKey))) {
-                    original.setSourceKey(sourceKey);
-                    return contentsRepo.save(original);
-                }
-                return original;
-            }
-        }
+    /** 원본 URL 메타데이터(제목) 조회를 미리 시작 (작업이 실행될 때는 캐시 히트) */
+    public void prefetchSource(TranslateRequest req) {
+        sourceMetadata.prefetch(normalizeInputFileUrl(req.getInputFileUrl()));
+    }
 
-        return contentsRepo.save(Contents.builder()
-                .parentId(null)
-                .title(storyTitle)
-                .thumbUrl(null)
-                .language(sourceLang)
-                .sourceKey(sourceKey)
-                .createdAt(LocalDateTime.now())
-                .build());
+    /** 이미 완료되어 영상 파일까지 남아있는 번역본 조회 */
+    public Optional<Contents> findCompletedTranslation(String sourceKey, String targetLang) {
+        if (sourceKey == null || targetLang == null) return Optional.empty();
+        return contentsRepo
+                .findFirstBySourceKeyAndLanguageAndParentIdIsNotNullAndCompletedAtIsNotNullOrderByCompletedAtDesc(
+                        sourceKey, targetLang)
+                .filter(c -> c.getContentsPath() != null && Files.isRegularFile(Paths.get(c.getContentsPath())));
+    }
+
+    /** export 결과로 이미 저장된 번역본 (재기동 시 중복 저장 방지, 스크립트만 선저장된 row 는 제외) */
+    public Optional<Contents> findTranslationByExport(String exportId) {
+        if (exportId == null) return Optional.empty();
+        return contentsRepo.findFirstByExportIdAndParentIdIsNotNull(exportId)
+                .filter(c -> c.getCompletedAt() != null);
     }
 
-    @Transactional
-    public TranslateResponse translateAndSave(TranslateRequest req) throws Exception {
+    /** 한 번의 프로젝트 생성 결과 (여러 대상 언어 export 가 공유) */
+    @Value
+    public static class ProjectHandle {
+        String projectId;
+        String storyTitle;
+        String sourceKey;
+        Integer originalContentsId;
+        /** 원본 row 에 기록된 영상 길이 (이전 번역 완료 시 채워짐, 처음이면 null) */
+        Integer originalDurationSec;
+    }
+
+    /** 스크립트 선저장 결과 (번역본 contents_id + 저장한 줄 수) */
+    @Value
+    public static class EarlyScripts {
+        Integer contentsId;
+        int lines;
+    }
+
+    /**
+     * 1단계: 원본 row 확보 + Perso 프로젝트 확보 (대상 언어 수와 무관하게 1회)
+     * - 원본 row(parentId=null)의 projectId 로 기존 프로젝트를 재사용
+     * - 완료 대기는 하지 않음 (ExportStatusPoller 가 completeExport 를 트리거)
+     * - 트랜잭션 없음: DB 작업은 TranslationStore 의 짧은 트랜잭션으로만 수행
+     */
+    public ProjectHandle startProject(TranslateRequest req) {
         // 0) 입력 URL 정규화 + 제목 도출
         String inputUrl = normalizeInputFileUrl(req.getInputFileUrl());
         String storyTitle = resolveTitleFromUrl(inputUrl, req.getTitle());
         String sourceKey = buildSourceKey(inputUrl, req.getSourceLang());
 
         // 1) 원본 row 확보(초기 duration=null)
-        Contents original = resolveOriginalContents(sourceKey, storyTitle, req.getSourceLang());
+        Contents original = store.resolveOriginal(sourceKey, storyTitle, req.getSourceLang());
+
+        // 2) 같은 원본으로 만든 Perso 프로젝트가 있으면 재사용 (업로드/음성 분석 생략)
+        String projectId = reusableProjectId(original);
+        if (projectId != null) {
+            log.info("[Perso] reusing project {} for '{}'", projectId, storyTitle);
+            return new ProjectHandle(projectId, storyTitle, sourceKey, original.getContentsId(),
+                original.getDurationSec());
+        }
 
-        // 2) Perso 프로젝트 생성(정확한 duration은 PersoClient에서 유효성 포함 전송)
+        // 2-1) Perso 프로젝트 생성(정확한 duration은 PersoClient에서 유효성 포함 전송)
         String uniqueTitleForPerso = storyTitle + "-" + System.currentTimeMillis();
         String inputName = FileStorage.sanitize(uniqueTitleForPerso) + ".mp4";
-        Map<String, Object> project = perso.createProject(
+        PersoProjectResponse project = perso.createProject(
                 inputName, inputUrl, req.getSourceLang(),
                 req.getDurationSec(), req.getNumberOfSpeakers());
-        String projectId = getStr(project, "project_id");
-
-        // 3) INITIAL_EXPORT 생성 후 완료 대기
-        Map<String, Object> export = perso.createExport(
-                projectId, req.getTargetLang(), "INITIAL_EXPORT",
-                req.isLipsync(), req.isWatermark(), "");
-        String exportId = getStr(export, "projectexport_id");
-
-        Map<String, Object> finalExport;
-        while (true) {
-            Thread.sleep(5_000);
-            Map<String, Object> now = perso.getExport(exportId);
-            String status = getStr(now, "status");
-            log.debug("[Perso] export {} status={} payload={}", exportId, status, now);
-            if ("COMPLETED".equalsIgnoreCase(status)) {
-                finalExport = now;
-                break;
-            }
-            if ("FAILED".equalsIgnoreCase(status)) {
-                String reason = Optional.ofNullable(getStr(now, "failure_reason"))
-                        .orElse(Optional.ofNullable(getStr(now, "failure_reason_detail"))
-                                .orElse(Optional.ofNullable(getStr(now, "status_message")).orElse("unknown")));
-                log.error("[Perso] export {} failed. reason={} payload={}", exportId, reason, now);
-                throw new IllegalStateException("Perso export failed: " + reason);
-            }
-            log.info("[Perso] export {} processing...", exportId);
-        }
+        projectId = (project != null) ? project.projectId() : null;
+        if (projectId == null)
+            throw new IllegalStateException("No project id from Perso.");
+
+        // 2-2) 원본 row 에 projectId 기록 → 다음 언어 요청부터 재사용
+        store.rememberProject(original.getContentsId(), projectId);
+
+        log.info("[Perso] project {} created for '{}'", projectId, storyTitle);
+        return new ProjectHandle(projectId, storyTitle, sourceKey, original.getContentsId(),
+                original.getDurationSec());
+    }
+
+    /**
+     * 원본에 기록된 projectId 가 Perso 에 아직 살아있으면 반환
+     * - 404/410 일 때만 새 프로젝트로 대체, 일시 장애(5xx/429/서킷 OPEN)는 그대로 전파
+     *   (장애 중에 재업로드하고 기록된 projectId 를 덮어쓰지 않도록)
+     */
+    private String reusableProjectId(Contents original) {
+        String projectId = original.getProjectId();
+        if (projectId == null || projectId.isBlank()) return null;
+        if (perso.projectExists(projectId)) return projectId;
+        log.warn("[Perso] stored project {} no longer exists, creating a new one", projectId);
+        return null;
+    }
+
+    /**
+     * 1-1단계: 대상 언어별 INITIAL_EXPORT 생성 (job 에 exportId 기록)
+     * @param persoPriority 스케줄러 우선순위 클래스에 대응하는 Perso priority 값
+     */
+    public void createExport(TranslationJob job, int persoPriority) {
+        PersoExportResponse export = perso.createExport(
+                job.getProjectId(), job.getTargetLang(), "INITIAL_EXPORT",
+                job.isLipsync(), job.isWatermark(), "", persoPriority);
+        String exportId = (export != null) ? export.exportId() : null;
+        if (exportId == null)
+            throw new IllegalStateException("No export id from Perso.");
+
+        job.setExportId(exportId);
+        log.info("[Perso] export {} created (project={}, target={})",
+                exportId, job.getProjectId(), job.getTargetLang());
+    }
+
+    /**
+     * 1-2단계: export 진행 중 스크립트 선저장 (Perso 프로젝트 상세에 번역문이 나오는 대로)
+     * - 번역본 row 는 SCRIPTS_READY(영상 대기)로 생성 → 튜터 연습을 영상 완료 전에 시작 가능
+     * - upsert 라 같은 줄을 다시 받아도 무해, 줄 수가 직전과 같으면 저장 생략
+     * @param savedLines 직전에 저장한 줄 수 (처음이면 0)
+     * @return 번역문이 아직 없거나 변화가 없으면 empty
+     */
+    public Optional<EarlyScripts> saveEarlyScripts(TranslationJob job, int savedLines) {
+        List<Script> rows = new ArrayList<>();
+        String targetLang = Optional.ofNullable(job.getTargetLang()).orElse("").toLowerCase(Locale.ROOT);
+        PersoProjectDetail projectDetail = perso.getProject(job.getProjectId(), s -> addScriptRows(rows, s, targetLang));
+
+        boolean translated = rows.stream().anyMatch(r -> targetLang.equals(r.getLanguage()));
+        if (!translated || rows.size() == savedLines) return Optional.empty();
+
+        String storyTitle = job.getStoryTitle();
+        Contents saved = store.saveEarlyScripts(
+                job.getOriginalContentsId(),
+                Contents.builder()
+                        .title(storyTitle)
+                        .thumbUrl(thumbnailUrlService.toPublicUrl(mediaIndex.findThumbnail(storyTitle)))
+                        .language(job.getTargetLang())
+                        .projectId(job.getProjectId())
+                        .exportId(job.getExportId())
+                        .durationSec(resolveDuration(projectDetail, job))
+                        .sourceKey(job.getSourceKey())
+                        .createdAt(LocalDateTime.now())
+                        .build(),
+                rows);
+        log.info("[Perso] early scripts saved: export={} contentsId={} lines={}",
+                job.getExportId(), saved.getContentsId(), rows.size());
+        return Optional.of(new EarlyScripts(saved.getContentsId(), rows.size()));
+    }
+
+    /** 실패한 job 의 선저장 번역본(SCRIPTS_READY) 정리 */
+    public boolean discardEarlyScripts(Integer contentsId) {
+        return store.discardEarlyScripts(contentsId);
+    }
+
+    /**
+     * 2단계: 완료된 export 결과 수집
+     * - Perso 조회/결과 영상 다운로드는 트랜잭션 밖에서 수행
+     * - 원본 보정 + 번역본/스크립트 저장만 TranslationStore 의 짧은 트랜잭션 1회
+     * @param finalExport status=COMPLETED 인 getExport 응답
+     */
+    public TranslateResponse completeExport(TranslationJob job, PersoExportResponse finalExport) throws Exception {
+        String projectId = job.getProjectId();
+        String exportId = job.getExportId();
+        String storyTitle = job.getStoryTitle();
         log.info("[Perso] export {} completed", exportId);
 
         // 4) 결과 비디오 URL 선택
-        String outUrl = req.isLipsync()
-                ? getStr(finalExport, "video_output_video_with_lipsync")
-                : getStr(finalExport, "video_output_video_without_lipsync");
-        if (outUrl == null)
-            outUrl = Optional.ofNullable(getStr(finalExport, "video_output_video_without_lipsync"))
-                    .orElse(getStr(finalExport, "video_output_video_with_lipsync"));
+        String outUrl = finalExport.outputVideoUrl(job.isLipsync());
         if (outUrl == null)
             throw new IllegalStateException("No output video url from Perso.");
 
-        // 5) 실제 duration 산출(Export 완료 후 Perso가 채움)
-        Map<String, Object> projectDetail = perso.getProject(projectId);
-        Integer realDuration = getInt(projectDetail, "input_file_video_duration_sec");
+        // 5) 프로젝트 상세 스트리밍 조회 → 스크립트 row 바로 구성 (원문/번역문 1:1, contentsId 는 저장 시 연결)
+        List<Script> rows = new ArrayList<>();
+        String targetLang = Optional.ofNullable(job.getTargetLang()).orElse("").toLowerCase(Locale.ROOT);
+        PersoProjectDetail projectDetail = perso.getProject(projectId, s -> addScriptRows(rows, s, targetLang));
 
-        // 5-1) 여전히 null/1이면 스크립트의 max(end_ms)로 보정
-        if (realDuration == null || realDuration <= 1) {
-            List<Map<String, Object>> scripts =
-                    (List<Map<String, Object>>) projectDetail.getOrDefault("scripts", List.of());
-            int maxEnd = 0;
-            for (Map<String, Object> s : scripts) {
-                Integer end = getInt(s, "end_ms");
-                if (end != null && end > maxEnd) maxEnd = end;
-            }
-            if (maxEnd > 0) {
-                realDuration = (maxEnd + 999) / 1000; // ms → s 올림
-            }
-        }
-
-        // 5-2) 그래도 없으면 요청값 사용(없으면 0)
-        if (realDuration == null || realDuration <= 1) {
-            realDuration = (req.getDurationSec() != null) ? req.getDurationSec() : 0;
-        }
+        // 5-1) 실제 duration 산출 → job 에도 기록 (ETA 버킷/초당 소요 시간은 요청값이 아닌 실측 길이 기준)
+        Integer realDuration = resolveDuration(projectDetail, job);
+        if (realDuration > 1) job.setDurationSec(realDuration);
 
         // 6) 번역 비디오 저장(다운로드)
-        String videoName = storyTitle + "_" + req.getTargetLang() + ".mp4";
-        String savedVideoPath = storage.downloadToRoot(videoName, outUrl);
-
-        // 6-1) 로컬 썸네일/동영상 탐색 (루트/부모 폴더 모두 시도)
-        String localThumbPath = findLocalThumbPath(storyTitle);
+        String videoName = storyTitle + "_" + job.getTargetLang() + ".mp4";
+        String savedVideoPath = storage.downloadToRoot(videoName, outUrl,
+                (bytes, total) -> progress.publish(TranslationProgressEvent.of(job, Stage.DOWNLOADING)
+                        .bytes(bytes)
+                        .totalBytes(total >= 0 ? total : null)
+                        .build()));
+
+        // 6-1) 로컬 썸네일/동영상 조회 (기동 시 만든 인덱스)
+        String localThumbPath = mediaIndex.findThumbnail(storyTitle);
         String publicThumbUrl = thumbnailUrlService.toPublicUrl(localThumbPath);
-        String localVideoPath = findLocalVideoPath(storyTitle);
-
-        // 7) DB 업데이트(원본은 "한 번만" 세팅될 값만 채움)
-        boolean dirty = false;
-        // duration 은 원본이 비어있을 때만 세팅 (이미 값 있으면 보존)
-        if (original.getDurationSec() == null || original.getDurationSec() <= 1) {
-            original.setDurationSec(realDuration);
-            dirty = true;
-        }
-        if (publicThumbUrl != null && (original.getThumbUrl() == null || original.getThumbUrl().isBlank())) {
-            original.setThumbUrl(publicThumbUrl);
-            dirty = true;
-        }
-        if (localVideoPath != null && (original.getContentsPath() == null || original.getContentsPath().isBlank())) {
-            original.setContentsPath(localVideoPath);
-            dirty = true;
-        }
-        // sourceKey 는 resolveOriginalContents 에서 이미 보정함
-        if (dirty) contentsRepo.save(original);
-
-        // 8) 번역본 저장(부모-자식 연결)
-        Contents translated = contentsRepo.save(Contents.builder()
-                .parentId(original.getContentsId()) // 같은 동화의 번역본 관계
-                .title(storyTitle)
-                .thumbUrl(publicThumbUrl != null ? publicThumbUrl : original.getThumbUrl())
-                .language(req.getTargetLang())
-                .projectId(projectId)
-                .exportId(exportId)
-                .durationSec(realDuration)
-                .contentsPath(savedVideoPath)
-                .sourceKey(sourceKey)
-                .createdAt(LocalDateTime.now())
-                .completedAt(LocalDateTime.now())
-                .build());
-
-        // 9) 스크립트 저장 (원문/번역문 1:1)
-        List<Map<String, Object>> scripts =
-                (List<Map<String, Object>>) projectDetail.getOrDefault("scripts", List.of());
-
-        List<Script> rows = new ArrayList<>();
-        String targetLang = Optional.ofNullable(translated.getLanguage()).orElse("").toLowerCase(Locale.ROOT);
-
-        for (Map<String, Object> s : scripts) {
-            Integer orderNo = getInt(s, "order");
-            Integer startMs = getInt(s, "start_ms");
-            Integer endMs   = getInt(s, "end_ms");
-            String  org     = getStr(s, "text_original");
-            String  tr      = getStr(s, "text_translated");
-
-            if (org != null && !org.isBlank()) {
-                rows.add(Script.builder()
-                        .contentsId(translated.getContentsId())
-                        .orderNo(orderNo)
-                        .startMs(startMs)
-                        .endMs(endMs)
-                        .language("ko")
-                        .text(org)
+        String localVideoPath = mediaIndex.findVideo(storyTitle);
+
+        // 8) 원본 보정 + 번역본/스크립트 저장 (짧은 트랜잭션 1회)
+        Contents translated = store.saveTranslation(
+                job.getOriginalContentsId(),
+                Contents.builder()
+                        .title(storyTitle)
+                        .thumbUrl(publicThumbUrl)
+                        .language(job.getTargetLang())
+                        .projectId(projectId)
+                        .exportId(exportId)
+                        .durationSec(realDuration)
+                        .contentsPath(savedVideoPath)
+                        .sourceKey(job.getSourceKey())
                         .createdAt(LocalDateTime.now())
-                        .build());
-            }
-            if (tr != null && !tr.isBlank() && !targetLang.isBlank()) {
-                rows.add(Script.builder()
-                        .contentsId(translated.getContentsId())
-                        .orderNo(orderNo)
-                        .startMs(startMs)
-                        .endMs(endMs)
-                        .language(targetLang)
-                        .text(tr)
-                        .createdAt(LocalDateTime.now())
-                        .build());
-            }
-        }
-        scriptRepo.saveAll(rows);
+                        .completedAt(LocalDateTime.now())
+                        .build(),
+                rows, publicThumbUrl, localVideoPath);
+
+        progress.publish(TranslationProgressEvent.of(job, Stage.SCRIPTS_SAVED)
+                .contentsId(translated.getContentsId())
+                .build());
 
         log.info("✅ Saved video: {}", savedVideoPath);
         if (localThumbPath != null) log.info("🖼️  Saved thumbnail: {}", localThumbPath);
@@ -508,4 +337,40 @@ public class TranslationService {
                 translated.getExportId(),
                 translated.getContentsPath());
     }
+
+    /** 실제 duration (Export 완료 후 Perso가 채움) → 스크립트의 max(end_ms) → 요청값 → 0 순 */
+    private static Integer resolveDuration(PersoProjectDetail projectDetail, TranslationJob job) {
+        Integer realDuration = projectDetail.durationSec();
+        if ((realDuration == null || realDuration <= 1) && projectDetail.scriptMaxEndMs() > 0) {
+            realDuration = (projectDetail.scriptMaxEndMs() + 999) / 1000; // ms → s 올림
+        }
+        if (realDuration == null || realDuration <= 1) {
+            realDuration = (job.getDurationSec() != null) ? job.getDurationSec() : 0;
+        }
+        return realDuration;
+    }
+
+    /** 스크립트 한 줄 → 원문(ko)/번역문 row */
+    private static void addScriptRows(List<Script> rows, PersoScript s, String targetLang) {
+        if (s.textOriginal() != null && !s.textOriginal().isBlank()) {
+            rows.add(Script.builder()
+                    .orderNo(s.order())
+                    .startMs(s.startMs())
+                    .endMs(s.endMs())
+                    .language("ko")
+                    .text(s.textOriginal())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        if (s.textTranslated() != null && !s.textTranslated().isBlank() && !targetLang.isBlank()) {
+            rows.add(Script.builder()
+                    .orderNo(s.order())
+                    .startMs(s.startMs())
+                    .endMs(s.endMs())
+                    .language(targetLang)
+                    .text(s.textTranslated())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
 }
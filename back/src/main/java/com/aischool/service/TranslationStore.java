@@ -0,0 +1,171 @@
+package com.aischool.service;
+
+import com.aischool.entity.Contents;
+import com.aischool.entity.Script;
+import com.aischool.repository.ContentsRepository;
+import com.aischool.repository.ScriptBulkWriter;
+import com.aischool.repository.ScriptRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 번역 파이프라인의 DB 작업만 모은 짧은 트랜잭션 모음
+ * - Perso 호출/대기/다운로드는 TranslationService 에서 트랜잭션 밖으로 수행
+ * - 각 메서드는 커넥션을 잠깐만 점유하고 바로 커밋
+ */
+@Service
+@RequiredArgsConstructor
+public class TranslationStore {
+
+    private final ContentsRepository contentsRepo;
+    private final ScriptRepository scriptRepo;
+    private final ScriptBulkWriter scriptWriter;
+
+    /** 원본 row 확보 (sourceKey → 제목+언어 순으로 탐색, 없으면 생성) */
+    @Transactional
+    public Contents resolveOriginal(String sourceKey, String storyTitle, String sourceLang) {
+        if (sourceKey != null && !sourceKey.isBlank()) {
+            Optional<Contents> byKey = contentsRepo.findFirstBySourceKeyAndParentIdIsNull(sourceKey);
+            if (byKey.isPresent()) return byKey.get();
+        }
+
+        if (storyTitle != null && !storyTitle.isBlank()
+                && sourceLang != null && !sourceLang.isBlank()) {
+            Optional<Contents> byTitle = contentsRepo
+                    .findFirstByTitleIgnoreCaseAndLanguageAndParentIdIsNull(storyTitle, sourceLang);
+            if (byTitle.isPresent()) {
+                Contents original = byTitle.get();
+                if (sourceKey != null
+                        && (original.getSourceKey() == null || !original.getSourceKey().equals(sourceKey))) {
+                    original.setSourceKey(sourceKey);
+                    return contentsRepo.save(original);
+                }
+                return original;
+            }
+        }
+
+        return contentsRepo.save(Contents.builder()
+                .parentId(null)
+                .title(storyTitle)
+                .thumbUrl(null)
+                .language(sourceLang)
+                .sourceKey(sourceKey)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /** 원본 row 에 재사용할 Perso projectId 기록 */
+    @Transactional
+    public void rememberProject(Integer originalContentsId, String projectId) {
+        contentsRepo.findById(originalContentsId).ifPresent(original -> {
+            original.setProjectId(projectId);
+            contentsRepo.save(original);
+        });
+    }
+
+    /**
+     * export 완료 전 스크립트 선저장
+     * - 번역본 row 를 SCRIPTS_READY(영상 대기)로 만들거나 재사용 → /api/translate/{id}/scripts 로 바로 조회 가능
+     * - 이미 READY 면(완료 저장이 먼저 끝남) 아무것도 하지 않음
+     */
+    @Transactional
+    public Contents saveEarlyScripts(Integer originalContentsId, Contents pending, List<Script> scripts) {
+        Optional<Contents> existing = findTranslationRow(originalContentsId, pending.getExportId(), pending.getLanguage());
+        if (existing.isPresent() && existing.get().getStatus() == Contents.Status.READY) return existing.get();
+
+        Contents row;
+        if (existing.isPresent()) {
+            row = existing.get();
+            row.setProjectId(pending.getProjectId());
+            row.setExportId(pending.getExportId());
+            if (pending.getDurationSec() != null) row.setDurationSec(pending.getDurationSec());
+            row = contentsRepo.save(row);
+        } else {
+            pending.setParentId(originalContentsId);
+            pending.setStatus(Contents.Status.SCRIPTS_READY);
+            if (pending.getThumbUrl() == null) {
+                contentsRepo.findById(originalContentsId).ifPresent(o -> pending.setThumbUrl(o.getThumbUrl()));
+            }
+            row = contentsRepo.save(pending);
+        }
+
+        Integer contentsId = row.getContentsId();
+        scripts.forEach(s -> s.setContentsId(contentsId));
+        scriptWriter.upsertAll(scripts);
+        return row;
+    }
+
+    /**
+     * export 가 실패한 job 의 선저장 번역본 삭제 (스크립트 포함)
+     * - 영상이 끝내 생기지 않는 SCRIPTS_READY row 가 목록/스크립트 조회에 남지 않도록
+     * - 이미 READY 가 된 row 는 건드리지 않음
+     * @return 삭제했으면 true
+     */
+    @Transactional
+    public boolean discardEarlyScripts(Integer contentsId) {
+        Optional<Contents> row = contentsRepo.findById(contentsId)
+                .filter(c -> c.getStatus() == Contents.Status.SCRIPTS_READY);
+        if (row.isEmpty()) return false;
+        scriptRepo.deleteByContentsId(contentsId);
+        contentsRepo.delete(row.get());
+        return true;
+    }
+
+    /**
+     * 다운로드까지 끝난 결과를 한 번에 저장
+     * - 원본은 비어있는 값(duration/썸네일/로컬 영상)만 채움
+     * - 번역본 row 저장(스크립트 선저장 row 가 있으면 READY 로 갱신) 후 스크립트 contentsId 연결
+     */
+    @Transactional
+    public Contents saveTranslation(Integer originalContentsId, Contents translated, List<Script> scripts,
+                                    String publicThumbUrl, String localVideoPath) {
+        Contents original = contentsRepo.findById(originalContentsId)
+                .orElseThrow(() -> new IllegalStateException("Original contents not found: " + originalContentsId));
+
+        // DB 업데이트(원본은 "한 번만" 세팅될 값만 채움)
+        boolean dirty = false;
+        // duration 은 원본이 비어있을 때만 세팅 (이미 값 있으면 보존)
+        if (original.getDurationSec() == null || original.getDurationSec() <= 1) {
+            original.setDurationSec(translated.getDurationSec());
+            dirty = true;
+        }
+        if (publicThumbUrl != null && (original.getThumbUrl() == null || original.getThumbUrl().isBlank())) {
+            original.setThumbUrl(publicThumbUrl);
+            dirty = true;
+        }
+        if (localVideoPath != null && (original.getContentsPath() == null || original.getContentsPath().isBlank())) {
+            original.setContentsPath(localVideoPath);
+            dirty = true;
+        }
+        // sourceKey 는 resolveOriginal 에서 이미 보정함
+        if (dirty) contentsRepo.save(original);
+
+        // 번역본 저장(부모-자식 연결)
+        translated.setParentId(original.getContentsId());
+        translated.setStatus(Contents.Status.READY);
+        if (translated.getThumbUrl() == null) translated.setThumbUrl(original.getThumbUrl());
+        findTranslationRow(original.getContentsId(), translated.getExportId(), translated.getLanguage())
+                .ifPresent(early -> {
+                    translated.setContentsId(early.getContentsId());
+                    translated.setCreatedAt(early.getCreatedAt());
+                });
+        Contents saved = contentsRepo.save(translated);
+
+        // 스크립트 저장 (원문/번역문 1:1, batch upsert)
+        scripts.forEach(s -> s.setContentsId(saved.getContentsId()));
+        scriptWriter.upsertAll(scripts);
+        return saved;
+    }
+
+    /** 같은 export 의 번역본 → 없으면 같은 원본+언어의 영상 대기 row (실패 후 재시도한 export) */
+    private Optional<Contents> findTranslationRow(Integer originalContentsId, String exportId, String language) {
+        return contentsRepo.findFirstByExportIdAndParentIdIsNotNull(exportId)
+                .or(() -> contentsRepo.findFirstByParentIdAndLanguageAndStatus(
+                        originalContentsId, language, Contents.Status.SCRIPTS_READY));
+    }
+}
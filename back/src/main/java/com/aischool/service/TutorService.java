@@ -1,8 +1,5 @@
 package com.aischool.service;
 
-import java.io.File;
-import java.time.LocalDateTime;
-
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -13,7 +10,6 @@ import com.aischool.entity.Feedback;
 import com.aischool.entity.Script;
 import com.aischool.repository.FeedbackRepository;
 import com.aischool.repository.ScriptRepository;
-import com.microsoft.cognitiveservices.speech.PronunciationAssessmentResult;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,7 +22,7 @@ public class TutorService {
     private final AzureSpeechClient azureSpeechClient;
     private final FeedbackGenerator feedbackGenerator;
     private final FeedbackService feedbackService;
-    private final AzureSpeechService azureSpeechService;
+    private final PronunciationService pronunciationService;   // ffmpeg 디코딩 → 캐시 → pronunciation.engine(azure|local)
     private final ScriptRepository scriptRepository;
     private final FeedbackRepository feedbackRepository;
 
@@ -79,20 +75,15 @@ public class TutorService {
         Long scriptId,
         String lang
 ) {
-        File tempFile = null; // finally에서 접근 가능하도록 try 밖에서 선언
     try {
         // 1️⃣ scriptId로 문장 텍스트 조회
         Script script = scriptRepository.findById(scriptId.intValue())
                 .orElseThrow(() -> new RuntimeException("해당 scriptId의 문장을 찾을 수 없습니다."));
         String targetSentence = script.getText();
 
-        // 2️⃣ 업로드된 파일을 임시로 로컬에 저장
-        tempFile = File.createTempFile("record_", ".webm");
-        audioFile.transferTo(tempFile);
-
-        // 3️⃣ Azure 발음 평가 실행 (JSON 결과 받기)
-        String azureJson = azureSpeechService.analyzeWithConvertJson(
-                tempFile,
+        // 2️⃣~3️⃣ 업로드 스트림 → ffmpeg PCM → (캐시 미스면) 발음 평가 엔진 (임시 파일 없음)
+        String azureJson = pronunciationService.assess(
+                audioFile.getInputStream(),
                 targetSentence,
                 lang
         );
@@ -133,16 +124,6 @@ public class TutorService {
 
     } catch (Exception e) {
         throw new RuntimeException("발음 분석 중 오류: " + e.getMessage());
-    } finally{
-        // 분석이 끝난 후 임시 파일 삭제 시도 (예외 발생 여부 상관없이 실행)
-        if (tempFile != null && tempFile.exists()){
-                boolean deleted = tempFile.delete(); 
-                if (deleted){
-                        System.out.println("[TempFileCleaner] 즉시 삭제됨: " + tempFile.getName());
-                } else {
-                         System.out.println("[TempFileCleaner] 삭제 실패(스케줄러가 처리 예정): " + tempFile.getName());
-                }
-        }
     }
 }
 
@@ -0,0 +1,165 @@
+package com.aischool.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * 언어별 예비 자원 풀 (SpeechRecognizerPool 의 대여/폐기/재충전 규칙)
+ * - 예비분이 있으면 warm, 없으면 새로 만들어 cold 로 대여하고 꺼내 간 만큼 refiller 에서 다시 채움
+ * - 끊겼거나 풀에 들어온 뒤 maxIdleMs 넘게 논 예비분은 대여/점검 시 폐기 (연결 중인 것은 건강한 것으로 봄)
+ * - 최근 languageIdleMs 동안 쓰인 언어만 warmPerLanguage 개까지 유지
+ * - Azure SDK 와 분리되어 있어 가짜 자원으로 단위 테스트 가능
+ */
+@Slf4j
+final class WarmPool<T extends WarmPool.Pooled> {
+
+    /** 풀에 넣는 자원 (연결 상태 + 정리) */
+    interface Pooled {
+        boolean isConnected();
+
+        /** 연결을 시작했지만 아직 결과가 오지 않음 (비동기 preconnect 직후) */
+        boolean isConnecting();
+
+        void close();
+    }
+
+    /** 예비분 + 풀에 들어온 시각 (유휴 시간 기준) */
+    private record Idle<T>(T item, long pooledAt) {
+    }
+
+    /** 자원 생성 (preconnect=true 면 연결까지 시작) */
+    interface Factory<T> {
+        T create(String lang, boolean preconnect);
+    }
+
+    private final Factory<T> factory;
+    private final Executor refiller;
+    private final MeterRegistry meters;
+    private final LongSupplier clock;
+    private final int warmPerLanguage;
+    private final long maxIdleMs;
+    private final long languageIdleMs;
+
+    private final Map<String, Deque<Idle<T>>> idle = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastUsed = new ConcurrentHashMap<>();
+
+    WarmPool(Factory<T> factory, Executor refiller, MeterRegistry meters, LongSupplier clock,
+             int warmPerLanguage, long maxIdleMs, long languageIdleMs) {
+        this.factory = factory;
+        this.refiller = refiller;
+        this.meters = meters;
+        this.clock = clock;
+        this.warmPerLanguage = Math.max(0, warmPerLanguage);
+        this.maxIdleMs = maxIdleMs;
+        this.languageIdleMs = languageIdleMs;
+    }
+
+    /** 최근 사용한 언어로 표시 (기동 시 미리 채울 언어 등록용) */
+    void touch(String lang) {
+        lastUsed.put(lang, clock.getAsLong());
+    }
+
+    /** 예비분 대여 (건강한 것이 없으면 새로 생성), 어느 경우든 예비분 재충전 예약 */
+    T acquire(String lang) {
+        touch(lang);
+        Deque<Idle<T>> deque = idle.get(lang);
+        if (deque != null) {
+            while (true) {
+                Idle<T> entry;
+                synchronized (deque) {
+                    entry = deque.pollFirst();
+                }
+                if (entry == null) break;
+                if (isHealthy(entry, clock.getAsLong())) {
+                    count(lang, "warm");
+                    refiller.execute(() -> refill(lang));
+                    return entry.item();
+                }
+                entry.item().close();
+            }
+        }
+        count(lang, "cold");
+        refiller.execute(() -> refill(lang));
+        return factory.create(lang, false);
+    }
+
+    int idleCount() {
+        int n = 0;
+        for (Deque<Idle<T>> deque : idle.values()) {
+            synchronized (deque) {
+                n += deque.size();
+            }
+        }
+        return n;
+    }
+
+    /** 주기 점검: 끊겼거나 오래 논 예비분 폐기 + 최근 쓰인 언어만 다시 채움 */
+    void maintain() {
+        long now = clock.getAsLong();
+        for (Map.Entry<String, Deque<Idle<T>>> entry : idle.entrySet()) {
+            Deque<Idle<T>> deque = entry.getValue();
+            synchronized (deque) {
+                Iterator<Idle<T>> it = deque.iterator();
+                while (it.hasNext()) {
+                    Idle<T> pooled = it.next();
+                    if (!isHealthy(pooled, now)) {
+                        it.remove();
+                        pooled.item().close();
+                        Counter.builder("speech.pool.evicted").tag("lang", entry.getKey()).register(meters).increment();
+                    }
+                }
+            }
+        }
+        lastUsed.forEach((lang, usedAt) -> {
+            if (now - usedAt <= languageIdleMs) refill(lang);
+        });
+    }
+
+    /** 예비분 전부 정리 */
+    void closeAll() {
+        idle.values().forEach(deque -> {
+            synchronized (deque) {
+                deque.forEach(pooled -> pooled.item().close());
+                deque.clear();
+            }
+        });
+    }
+
+    private void refill(String lang) {
+        Deque<Idle<T>> deque = idle.computeIfAbsent(lang, l -> new ArrayDeque<>());
+        while (true) {
+            synchronized (deque) {
+                if (deque.size() >= warmPerLanguage) return;
+            }
+            T item;
+            try {
+                item = factory.create(lang, true);
+            } catch (Exception e) {
+                log.warn("[Speech] pre-connect failed for {}: {}", lang, e.getMessage());
+                return;
+            }
+            synchronized (deque) {
+                deque.addLast(new Idle<>(item, clock.getAsLong()));
+            }
+        }
+    }
+
+    /** 연결됐거나 연결 중이고, 풀에 들어온 뒤 maxIdleMs 이내 (연결이 끝내 안 되면 maxIdleMs 뒤 폐기) */
+    private boolean isHealthy(Idle<T> pooled, long now) {
+        T item = pooled.item();
+        return (item.isConnected() || item.isConnecting()) && now - pooled.pooledAt() <= maxIdleMs;
+    }
+
+    private void count(String lang, String kind) {
+        Counter.builder("speech.pool.acquire").tag("lang", lang).tag("kind", kind).register(meters).increment();
+    }
+}
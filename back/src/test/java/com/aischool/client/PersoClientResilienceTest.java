@@ -0,0 +1,204 @@
+package com.aischool.client;
+
+import com.aischool.dto.PersoExportResponse;
+import com.aischool.dto.PersoProjectDetail;
+import com.aischool.dto.PersoScript;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 로컬 HTTP stub 으로 PersoClient 재시도/서킷 브레이커/스트리밍 파싱 확인 */
+class PersoClientResilienceTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meters;
+    private PersoClient client;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int failuresBeforeSuccess;
+    private volatile int failureStatus = 503;
+    /** 실패 응답 다음으로, 마지막 script 앞에서 끊긴 200 응답을 보낼 횟수 */
+    private volatile int truncatedResponses;
+    private volatile String body = "{}";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            int n = hits.incrementAndGet();
+            String payload = n <= failuresBeforeSuccess ? "{\"detail\":\"busy\"}"
+                    : n <= failuresBeforeSuccess + truncatedResponses ? body.substring(0, body.lastIndexOf("{\"order\""))
+                    : body;
+            byte[] out = payload.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(n <= failuresBeforeSuccess ? failureStatus : 200, out.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(out);
+            }
+        });
+        server.start();
+
+        meters = new SimpleMeterRegistry();
+        // rate 넉넉히, 재시도 3회, 지연 1~5ms, 연속 3회 실패 시 OPEN
+        PersoCallPolicy policy = new PersoCallPolicy(meters, 1000, 1000, 1000, 3, 1, 5, 3, 60_000);
+        client = new PersoClient(RestClient.create(), new ObjectMapper(), policy);
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "apiKey", "test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void getExportRetriesTransientErrors() {
+        failuresBeforeSuccess = 2;
+        body = "{\"projectexport_id\":\"e1\",\"status\":\"COMPLETED\"}";
+
+        PersoExportResponse export = client.getExport("e1");
+
+        assertThat(export.isCompleted()).isTrue();
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(meters.counter("perso.retries", "op", "getExport").count()).isEqualTo(2);
+    }
+
+    @Test
+    void createExportIsNotRetried() {
+        failuresBeforeSuccess = 1;
+
+        assertThatThrownBy(() -> client.createExport("p1", "en", "INITIAL_EXPORT", false, false, "", 0))
+                .isInstanceOf(RestClientResponseException.class);
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void circuitOpensAndFailsFast() {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        assertThatThrownBy(() -> client.getExport("e1")).isInstanceOf(RestClientResponseException.class);
+        assertThatThrownBy(() -> client.getExport("e1")).isInstanceOf(PersoUnavailableException.class);
+
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(meters.counter("perso.circuit.transitions", "from", "CLOSED", "to", "OPEN").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void getProjectStreamsScripts() {
+        body = "{\"project_id\":123,\"extra\":{\"nested\":[1,2]},\"input_file_video_duration_sec\":null,"
+                + "\"scripts\":[{\"order\":1,\"start_ms\":0,\"end_ms\":1500,\"text_original\":\"안녕\"},"
+                + "{\"order\":2,\"start_ms\":1500,\"end_ms\":4200,\"text_translated\":\"Hi\",\"unknown\":true}]}";
+        List<PersoScript> scripts = new ArrayList<>();
+
+        PersoProjectDetail detail = client.getProject("123", scripts::add);
+
+        assertThat(detail.projectId()).isEqualTo("123");
+        assertThat(detail.durationSec()).isNull();
+        assertThat(detail.scriptCount()).isEqualTo(2);
+        assertThat(detail.scriptMaxEndMs()).isEqualTo(4200);
+        assertThat(scripts).extracting(PersoScript::order).containsExactly(1, 2);
+    }
+
+    @Test
+    void getProjectRetryDoesNotRedeliverScripts() {
+        body = "{\"project_id\":123,\"scripts\":[{\"order\":1,\"start_ms\":0,\"end_ms\":1500},"
+                + "{\"order\":2,\"start_ms\":1500,\"end_ms\":4200}]}";
+        truncatedResponses = 1;   // 첫 시도는 1번 줄까지 읽고 끊김 → 재시도
+        List<PersoScript> scripts = new ArrayList<>();
+
+        PersoProjectDetail detail = client.getProject("123", scripts::add);
+
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(detail.scriptCount()).isEqualTo(2);
+        assertThat(scripts).extracting(PersoScript::order).containsExactly(1, 2);
+    }
+
+    @Test
+    void projectExistsIsFalseOnlyWhenGone() {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+        failureStatus = 404;
+
+        assertThat(client.projectExists("p1")).isFalse();
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void projectExistsPropagatesTransientErrors() {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        assertThatThrownBy(() -> client.projectExists("p1")).isInstanceOf(RestClientResponseException.class);
+        assertThat(hits.get()).isEqualTo(3);
+    }
+
+    @Test
+    void pollExportTriesOnce() {
+        failuresBeforeSuccess = 1;
+
+        assertThatThrownBy(() -> client.pollExport("e1")).isInstanceOf(RestClientResponseException.class);
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(meters.counter("perso.failures", "op", "getExport").count()).isEqualTo(1);
+    }
+
+    @Test
+    void pollExportFailsFastWithoutToken() {
+        body = "{\"projectexport_id\":\"e1\",\"status\":\"PROCESSING\"}";
+        // 토큰 1개, 거의 보충되지 않음 → 두 번째 호출은 기다리지 않고 바로 실패
+        PersoCallPolicy slow = new PersoCallPolicy(meters, 0.001, 1, 30_000, 3, 1, 5, 3, 60_000);
+        PersoClient throttled = new PersoClient(RestClient.create(), new ObjectMapper(), slow);
+        ReflectionTestUtils.setField(throttled, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(throttled, "apiKey", "test");
+
+        throttled.pollExport("e1");
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> throttled.pollExport("e1")).isInstanceOf(PersoUnavailableException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitedHalfOpenTrialDoesNotBlockNextCall() throws InterruptedException {
+        body = "{\"projectexport_id\":\"e1\",\"status\":\"COMPLETED\"}";
+        failuresBeforeSuccess = 1;
+        // 토큰 1개(거의 보충 안 됨) + 대기 10ms 까지만, 재시도 없음, 1회 실패로 OPEN → 50ms 후 HALF_OPEN
+        PersoCallPolicy policy = new PersoCallPolicy(meters, 0.001, 1, 10, 1, 1, 5, 1, 50);
+        PersoClient limited = new PersoClient(RestClient.create(), new ObjectMapper(), policy);
+        ReflectionTestUtils.setField(limited, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(limited, "apiKey", "test");
+
+        assertThatThrownBy(() -> limited.getExport("e1")).isInstanceOf(RestClientResponseException.class);
+        Thread.sleep(100);
+        assertThat(policy.state()).isEqualTo(PersoCallPolicy.CircuitState.HALF_OPEN);
+
+        // HALF_OPEN 시험 호출이 rate limit 으로 거절됨 (Perso 까지 가지 않음)
+        assertThatThrownBy(() -> limited.getExport("e1"))
+                .isInstanceOf(PersoUnavailableException.class)
+                .hasMessageContaining("rate limit");
+        assertThat(hits.get()).isEqualTo(1);
+
+        // 토큰이 다시 생기면 다음 호출이 시험 호출로 나가고 성공 시 CLOSED
+        ReflectionTestUtils.setField(policy, "tokens", 1.0);
+        assertThat(limited.getExport("e1").isCompleted()).isTrue();
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(policy.state()).isEqualTo(PersoCallPolicy.CircuitState.CLOSED);
+    }
+}
@@ -0,0 +1,108 @@
+package com.aischool.repository;
+
+import com.aischool.entity.Script;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** H2(MySQL 모드)로 ScriptBulkWriter upsert 확인: 재실행하면 같은 줄을 덮어쓰고 중복 row 를 만들지 않음 */
+@JdbcTest
+@Import(ScriptBulkWriter.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:script_bulk;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never",
+        "translation.script.batch-size=2"
+})
+class ScriptBulkWriterTest {
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ScriptBulkWriter writer;
+
+    @BeforeEach
+    void createTable() {
+        jdbc.execute("DROP TABLE IF EXISTS script");
+        jdbc.execute("CREATE TABLE script ("
+                + "script_id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "contents_id INT NOT NULL, "
+                + "order_no INT NOT NULL, "
+                + "start_ms INT NOT NULL, "
+                + "end_ms INT NOT NULL, "
+                + "language VARCHAR(8) NOT NULL, "
+                + "text CLOB, "
+                + "created_at TIMESTAMP, "
+                + "CONSTRAINT uk_script_line_lang UNIQUE (contents_id, order_no, language))");
+    }
+
+    @Test
+    void rerunUpdatesLinesInPlace() {
+        writer.upsertAll(List.of(
+                line(1, 0, 1000, "ko", "안녕"),
+                line(2, 1000, 2500, "ko", "반가워"),
+                line(3, 2500, 4000, "ko", "잘 가")));
+        Map<Integer, Integer> idsBefore = idsByOrder();
+
+        // 재번역: 두 줄은 내용/타이밍이 바뀌고, 한 줄이 새로 생김
+        writer.upsertAll(List.of(
+                line(1, 0, 1200, "ko", "안녕하세요"),
+                line(2, 1200, 2600, "ko", "반갑습니다"),
+                line(4, 4000, 5000, "ko", "또 봐")));
+
+        assertThat(count()).isEqualTo(4);
+        assertThat(idsByOrder()).containsAllEntriesOf(idsBefore);
+        assertThat(jdbc.queryForObject("SELECT text FROM script WHERE order_no = 1", String.class))
+                .isEqualTo("안녕하세요");
+        assertThat(jdbc.queryForObject("SELECT end_ms FROM script WHERE order_no = 2", Integer.class))
+                .isEqualTo(2600);
+        assertThat(jdbc.queryForObject("SELECT text FROM script WHERE order_no = 3", String.class))
+                .isEqualTo("잘 가");
+    }
+
+    @Test
+    void sameLineInAnotherLanguageIsSeparateRow() {
+        writer.upsertAll(List.of(line(1, 0, 1000, "ko", "안녕")));
+        writer.upsertAll(List.of(line(1, 0, 1000, "en", "Hello")));
+
+        assertThat(count()).isEqualTo(2);
+    }
+
+    private static Script line(int orderNo, int startMs, int endMs, String lang, String text) {
+        return Script.builder()
+                .contentsId(7)
+                .orderNo(orderNo)
+                .startMs(startMs)
+                .endMs(endMs)
+                .language(lang)
+                .text(text)
+                .build();
+    }
+
+    private int count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM script", Integer.class);
+    }
+
+    private Map<Integer, Integer> idsByOrder() {
+        return jdbc.query("SELECT order_no, script_id FROM script", rs -> {
+            Map<Integer, Integer> ids = new HashMap<>();
+            while (rs.next()) ids.put(rs.getInt("order_no"), rs.getInt("script_id"));
+            return ids;
+        });
+    }
+}
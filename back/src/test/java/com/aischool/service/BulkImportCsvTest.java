@@ -0,0 +1,70 @@
+package com.aischool.service;
+
+import com.aischool.dto.TranslateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** CSV manifest 파싱 확인 (따옴표 안 쉼표/줄바꿈, "" 이스케이프, BOM, CRLF, 빈 행) */
+class BulkImportCsvTest {
+
+    private final BulkImportService service =
+            new BulkImportService(null, null, null, new ObjectMapper(), 8, 1000, 0, 0L);
+
+    @Test
+    void quotedCommasAndNewlinesStayInOneField() {
+        List<TranslateRequest> rows = service.parse(
+                "input_file_url,title,target_languages\n"
+                        + "https://cdn.example.com/a.mp4,\"Hello, world\nPart 2\",en;ja\n", true);
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getTitle()).isEqualTo("Hello, world\nPart 2");
+        assertThat(rows.get(0).resolveTargetLangs()).containsExactly("en", "ja");
+    }
+
+    @Test
+    void doubledQuotesAreUnescaped() {
+        List<TranslateRequest> rows = service.parse(
+                "input_file_url,title,target_language\n"
+                        + "https://cdn.example.com/a.mp4,\"The \"\"Big\"\" Fox\",en\n", true);
+
+        assertThat(rows.get(0).getTitle()).isEqualTo("The \"Big\" Fox");
+        assertThat(rows.get(0).getTargetLang()).isEqualTo("en");
+    }
+
+    @Test
+    void bomAndCrlfAreHandled() {
+        List<TranslateRequest> rows = service.parse(
+                "\uFEFFinput_file_url,target_language,duration_sec\r\n"
+                        + "https://cdn.example.com/a.mp4,en,90\r\n"
+                        + "https://cdn.example.com/b.mp4,ja,120\r\n", true);
+
+        assertThat(rows).extracting(TranslateRequest::getInputFileUrl)
+                .containsExactly("https://cdn.example.com/a.mp4", "https://cdn.example.com/b.mp4");
+        assertThat(rows).extracting(TranslateRequest::getDurationSec).containsExactly(90, 120);
+    }
+
+    @Test
+    void blankRowsAreSkipped() {
+        List<TranslateRequest> rows = service.parse(
+                "input_file_url,target_language\n"
+                        + "\n"
+                        + "https://cdn.example.com/a.mp4,en\n"
+                        + ",\n"
+                        + "\r\n", true);
+
+        assertThat(rows).hasSize(1);
+    }
+
+    @Test
+    void headerWithoutInputFileUrlIsRejected() {
+        assertThatThrownBy(() -> service.parse("url,target_language\nhttps://cdn.example.com/a.mp4,en\n", true))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("input_file_url");
+    }
+}
@@ -0,0 +1,151 @@
+package com.aischool.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/** 로컬 Range 서버로 FileStorage 구간 다운로드 실패 처리 확인 (짧은 구간 / 긴 구간 / Range 무시) */
+class FileStorageRangeDownloadTest {
+
+    private enum Mode { SHORT, OVERLONG, IGNORES_RANGE }
+
+    private static final int SIZE = 16 * 1024;
+    private static final int SHORT_CAP = 3000;
+
+    @TempDir
+    Path root;
+
+    private final byte[] content = new byte[SIZE];
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    /** probe(bytes=0-0) 응답으로 실제 내보낸 바이트 수 */
+    private final AtomicLong probeBytesSent = new AtomicLong();
+    private volatile Mode mode;
+    private HttpServer server;
+    private ExecutorService serverPool;
+    private FileStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        new Random(42).nextBytes(content);
+
+        serverPool = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/video.mp4", this::serve);
+        server.setExecutor(serverPool);
+        server.start();
+
+        storage = new FileStorage();
+        ReflectionTestUtils.setField(storage, "rootDir", root.toString());
+        ReflectionTestUtils.setField(storage, "maxAttempts", 3);
+        // 타임아웃까지 기다리면 테스트가 assertTimeoutPreemptively 에 걸리도록 길게
+        ReflectionTestUtils.setField(storage, "attemptTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(storage, "parallelChunks", 4);
+        ReflectionTestUtils.setField(storage, "minChunkBytes", 2048L);
+        ReflectionTestUtils.setField(storage, "progressIntervalMs", 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+        server.stop(0);
+        serverPool.shutdownNow();
+    }
+
+    @Test
+    void shortRangesAreResumedPerChunk() throws Exception {
+        mode = Mode.SHORT;
+
+        Path saved = download();
+
+        assertThat(Files.readAllBytes(saved)).isEqualTo(content);
+        assertThat(requests).doesNotContain("full");
+        // probe 1회 + 구간 4개 각각 두 번 이상 (3000 바이트씩 잘려서 옴)
+        assertThat(requests).hasSizeGreaterThanOrEqualTo(1 + 4 * 2);
+    }
+
+    @Test
+    void overlongRangeFailsFastAndFallsBackToSingleStream() throws Exception {
+        mode = Mode.OVERLONG;
+
+        Path saved = assertTimeoutPreemptively(Duration.ofSeconds(10), this::download);
+
+        assertThat(Files.readAllBytes(saved)).isEqualTo(content);
+        assertThat(requests).contains("full");
+    }
+
+    @Test
+    void serverIgnoringRangeIsDownloadedAsSingleStream() throws Exception {
+        mode = Mode.IGNORES_RANGE;
+
+        Path saved = assertTimeoutPreemptively(Duration.ofSeconds(10), this::download);
+
+        assertThat(Files.readAllBytes(saved)).isEqualTo(content);
+        assertThat(requests).containsExactly("bytes=0-0", "full");
+        // probe 에 온 200 전체 본문은 받지 않고 끊음 → 파일을 두 번 내려받지 않음
+        assertThat(probeBytesSent.get()).isLessThan(SIZE / 2);
+    }
+
+    private Path download() throws Exception {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/video.mp4";
+        return Path.of(storage.downloadToRoot("video.mp4", url));
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        requests.add(range == null ? "full" : range);
+
+        if (range == null || mode == Mode.IGNORES_RANGE) {
+            send(exchange, 200, 0, SIZE - 1);
+            return;
+        }
+
+        String[] bounds = range.substring("bytes=".length()).split("-", -1);
+        int from = Integer.parseInt(bounds[0]);
+        int to = bounds[1].isEmpty() ? SIZE - 1 : Math.min(SIZE - 1, Integer.parseInt(bounds[1]));
+        boolean probe = from == 0 && to == 0;
+        if (!probe && mode == Mode.SHORT) to = Math.min(to, from + SHORT_CAP - 1);
+        if (!probe && mode == Mode.OVERLONG) to = SIZE - 1;
+
+        exchange.getResponseHeaders().set("Content-Range", "bytes " + from + "-" + to + "/" + SIZE);
+        send(exchange, 206, from, to);
+    }
+
+    private void send(HttpExchange exchange, int status, int from, int to) throws IOException {
+        boolean probe = "bytes=0-0".equals(exchange.getRequestHeaders().getFirst("Range"));
+        exchange.sendResponseHeaders(status, to - from + 1);
+        try (OutputStream os = exchange.getResponseBody()) {
+            // 1KB 씩 나눠 보내 클라이언트가 끊은 뒤로는 쓰기가 실패하도록 (Range 무시 모드는 천천히)
+            for (int offset = from; offset <= to; offset += 1024) {
+                int n = Math.min(1024, to - offset + 1);
+                os.write(content, offset, n);
+                os.flush();
+                if (probe) probeBytesSent.addAndGet(n);
+                if (mode == Mode.IGNORES_RANGE) Thread.sleep(5);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 구독을 끊은 경우 (긴 구간, Range 무시한 probe)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
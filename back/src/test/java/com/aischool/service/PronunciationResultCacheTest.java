@@ -0,0 +1,129 @@
+package com.aischool.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 발음 평가 결과 캐시 확인 (메모리 LRU 바이트 상한, TTL 만료, 디스크 정리) */
+class PronunciationResultCacheTest {
+
+    private static final String JSON = "x".repeat(100);
+    private static final long ENTRY_BYTES = JSON.length() * 2L + 64;   // sizeOf 근사와 같은 값
+
+    @TempDir
+    Path diskDir;
+
+    @Test
+    void memoryEvictsLeastRecentlyUsedOverByteLimit() {
+        PronunciationResultCache cache = cache(ENTRY_BYTES * 2 + 10, 60_000, "");
+        cache.put("a", JSON, 100);
+        cache.put("b", JSON, 100);
+        assertThat(cache.get("a")).isPresent();   // a 를 최근 사용으로
+
+        cache.put("c", JSON, 100);
+
+        assertThat(cache.memoryBytes()).isEqualTo(ENTRY_BYTES * 2);
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("c")).isPresent();
+    }
+
+    @Test
+    void entryLargerThanLimitIsNotKeptInMemory() {
+        PronunciationResultCache cache = cache(ENTRY_BYTES - 1, 60_000, "");
+
+        cache.put("a", JSON, 100);
+
+        assertThat(cache.memoryBytes()).isZero();
+        assertThat(cache.get("a")).isEmpty();
+    }
+
+    @Test
+    void expiredEntriesMissInMemoryAndOnDisk() throws Exception {
+        PronunciationResultCache cache = cache(1 << 20, 200, diskDir.toString());
+        cache.put("a", JSON, 100);
+        assertThat(cache.get("a")).contains(JSON);
+
+        Thread.sleep(400);
+
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.memoryBytes()).isZero();
+        assertThat(diskDir.resolve("a.json")).doesNotExist();
+    }
+
+    @Test
+    void diskHitIsServedAfterMemoryEviction() {
+        PronunciationResultCache cache = cache(ENTRY_BYTES + 10, 60_000, diskDir.toString());
+        cache.put("a", JSON, 100);
+        cache.put("b", JSON, 100);   // 메모리에서 a 가 밀려남
+
+        assertThat(cache.get("a")).contains(JSON);
+    }
+
+    @Test
+    void sweepRemovesExpiredFiles() throws IOException {
+        PronunciationResultCache cache = cache(1 << 20, Duration.ofHours(1).toMillis(), diskDir.toString());
+        cache.put("old", JSON, 100);
+        cache.put("fresh", JSON, 100);
+        age("old", Duration.ofHours(2));
+
+        ReflectionTestUtils.invokeMethod(cache, "sweepDisk");
+
+        assertThat(diskDir.resolve("old.json")).doesNotExist();
+        assertThat(diskDir.resolve("fresh.json")).exists();
+    }
+
+    @Test
+    void sweepDeletesOldestFilesOverSizeLimit() throws IOException {
+        PronunciationResultCache writer = cache(1 << 20, Duration.ofHours(1).toMillis(), diskDir.toString());
+        writer.put("first", JSON, 100);
+        writer.put("second", JSON, 100);
+        writer.put("third", JSON, 100);
+        age("first", Duration.ofMinutes(30));
+        age("second", Duration.ofMinutes(20));
+        age("third", Duration.ofMinutes(10));
+        long fileBytes = Files.size(diskDir.resolve("third.json"));
+
+        // 파일 두 개까지만 허용하는 상한으로 정리
+        PronunciationResultCache cache = new PronunciationResultCache(new SimpleMeterRegistry(),
+                1 << 20, Duration.ofHours(1).toMillis(), diskDir.toString(), fileBytes * 2 + 10);
+        ReflectionTestUtils.invokeMethod(cache, "sweepDisk");
+
+        assertThat(diskDir.resolve("first.json")).doesNotExist();
+        assertThat(diskDir.resolve("second.json")).exists();
+        assertThat(diskDir.resolve("third.json")).exists();
+    }
+
+    @Test
+    void differentGranularityMissesCache() {
+        PronunciationResultCache cache = cache(1 << 20, 60_000, "");
+        byte[] pcm = {1, 2, 3, 4};
+        String phoneme = PronunciationResultCache.key(pcm, "I like apples", "en-US", "azure", "Phoneme");
+        cache.put(phoneme, JSON, 100);
+
+        String word = PronunciationResultCache.key(pcm, "I like apples", "en-US", "azure", "Word");
+
+        assertThat(word).isNotEqualTo(phoneme);
+        assertThat(cache.get(word)).isEmpty();
+        assertThat(cache.get(PronunciationResultCache.key(pcm, "I like apples", "en-US", "azure", "Phoneme")))
+                .contains(JSON);
+    }
+
+    private static PronunciationResultCache cache(long maxBytes, long ttlMs, String diskDir) {
+        return new PronunciationResultCache(new SimpleMeterRegistry(), maxBytes, ttlMs, diskDir, 1 << 20);
+    }
+
+    private void age(String key, Duration age) throws IOException {
+        Files.setLastModifiedTime(diskDir.resolve(key + ".json"), FileTime.from(Instant.now().minus(age)));
+    }
+}
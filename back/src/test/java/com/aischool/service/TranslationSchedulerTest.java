@@ -0,0 +1,97 @@
+package com.aischool.service;
+
+import com.aischool.entity.TranslationJob.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 우선순위 클래스 / 예약 슬롯 / 사용자별 round-robin / 큰 묶음 예외 규칙 확인 */
+class TranslationSchedulerTest {
+
+    private final List<Long> started = new ArrayList<>();
+
+    @Test
+    void bulkBacklogDoesNotDelayAnotherUsersInteractiveRequest() {
+        TranslationScheduler scheduler = scheduler(2, 1);
+        for (long id = 1; id <= 5; id++) submit(scheduler, "catalog", Priority.BULK, id);
+
+        submit(scheduler, "kid", Priority.INTERACTIVE, 100L);
+
+        assertThat(started).containsExactly(1L, 100L);
+        assertThat(scheduler.activeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void interactiveRunsBeforeQueuedBulkWhenSlotFrees() {
+        TranslationScheduler scheduler = scheduler(1, 0);
+        submit(scheduler, "catalog", Priority.BULK, 1L);
+        submit(scheduler, "catalog", Priority.BULK, 2L);
+        submit(scheduler, "kid", Priority.INTERACTIVE, 100L);
+
+        scheduler.release(1L);
+
+        assertThat(started).containsExactly(1L, 100L);
+    }
+
+    @Test
+    void bulkLeavesReservedSlotFree() {
+        TranslationScheduler scheduler = scheduler(3, 1);
+        for (long id = 1; id <= 3; id++) submit(scheduler, "catalog", Priority.BULK, id);
+
+        // 3번째 슬롯은 비어 있어도 BULK 로는 채우지 않음
+        assertThat(started).containsExactly(1L, 2L);
+        assertThat(scheduler.activeCount()).isEqualTo(2);
+
+        submit(scheduler, "kid", Priority.INTERACTIVE, 100L);
+        assertThat(started).containsExactly(1L, 2L, 100L);
+    }
+
+    @Test
+    void usersTakeTurnsWithinAClass() {
+        TranslationScheduler scheduler = scheduler(1, 0);
+        submit(scheduler, "a", Priority.BULK, 1L);
+        submit(scheduler, "a", Priority.BULK, 2L);
+        submit(scheduler, "a", Priority.BULK, 3L);
+        submit(scheduler, "b", Priority.BULK, 10L);
+
+        scheduler.release(1L);
+        scheduler.release(2L);
+        scheduler.release(10L);
+
+        assertThat(started).containsExactly(1L, 2L, 10L, 3L);
+    }
+
+    @Test
+    void oversizedBundleRunsWhenNothingIsActive() {
+        TranslationScheduler scheduler = scheduler(2, 1);
+
+        boolean accepted = scheduler.enqueue("kid", Priority.INTERACTIVE, List.of(1L, 2L, 3L),
+                () -> started.add(1L));
+
+        assertThat(accepted).isTrue();
+        assertThat(started).containsExactly(1L);
+        assertThat(scheduler.activeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        TranslationScheduler scheduler = new TranslationScheduler(new SimpleMeterRegistry(), 1, 0, 1, 0, 1);
+        submit(scheduler, "a", Priority.BULK, 1L);   // 바로 실행
+        submit(scheduler, "a", Priority.BULK, 2L);   // 대기 1건
+
+        assertThat(scheduler.hasRoom(1)).isFalse();
+        assertThat(scheduler.enqueue("a", Priority.BULK, List.of(3L), () -> started.add(3L))).isFalse();
+    }
+
+    private static TranslationScheduler scheduler(int maxActive, int interactiveReserved) {
+        return new TranslationScheduler(new SimpleMeterRegistry(), maxActive, interactiveReserved, 500, 0, 1);
+    }
+
+    private void submit(TranslationScheduler scheduler, String user, Priority priority, Long jobId) {
+        assertThat(scheduler.enqueue(user, priority, List.of(jobId), () -> started.add(jobId))).isTrue();
+    }
+}
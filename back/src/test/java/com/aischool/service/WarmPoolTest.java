@@ -0,0 +1,167 @@
+package com.aischool.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 인식기 풀 규칙 확인 (warm/cold 대여, 오래 논 연결 폐기, 끊긴 연결 건너뜀, 연결 중 대여, 안 쓰는 언어 미충전) */
+class WarmPoolTest {
+
+    private static final long MAX_IDLE_MS = 60_000;
+    private static final long LANGUAGE_IDLE_MS = 600_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final List<FakeConnection> created = new ArrayList<>();
+    private boolean preconnectFails;
+    /** 자원 하나 만드는 데 걸리는 시간 (생성 시각과 풀에 들어간 시각을 벌림) */
+    private long createLatencyMs;
+
+    @Test
+    void firstAcquireIsColdThenWarm() {
+        WarmPool<FakeConnection> pool = pool(2);
+
+        FakeConnection first = pool.acquire("ko-KR");
+        assertThat(first.preconnected).isFalse();
+        assertThat(pool.idleCount()).isEqualTo(2);
+
+        FakeConnection second = pool.acquire("ko-KR");
+        assertThat(second.preconnected).isTrue();
+        assertThat(pool.idleCount()).isEqualTo(2);
+        assertThat(acquired("cold")).isEqualTo(1.0);
+        assertThat(acquired("warm")).isEqualTo(1.0);
+    }
+
+    @Test
+    void idleConnectionsAreEvictedAndReplaced() {
+        WarmPool<FakeConnection> pool = pool(2);
+        pool.acquire("ko-KR");
+        List<FakeConnection> stale = List.copyOf(created.subList(0, 2));
+
+        now.addAndGet(MAX_IDLE_MS + 1);
+        pool.maintain();
+
+        assertThat(stale).allMatch(c -> c.closed);
+        assertThat(meters.counter("speech.pool.evicted", "lang", "ko-KR").count()).isEqualTo(2.0);
+        // 언어는 최근에 쓰였으므로 새 연결로 다시 채움
+        assertThat(pool.idleCount()).isEqualTo(2);
+    }
+
+    @Test
+    void disconnectedConnectionIsSkippedOnAcquire() {
+        WarmPool<FakeConnection> pool = pool(2);
+        pool.acquire("ko-KR");
+        FakeConnection dropped = created.get(0);
+        dropped.connected = false;
+
+        FakeConnection leased = pool.acquire("ko-KR");
+
+        assertThat(leased).isSameAs(created.get(1));
+        assertThat(dropped.closed).isTrue();
+    }
+
+    @Test
+    void connectingConnectionIsLeasedWarm() {
+        WarmPool<FakeConnection> pool = pool(1);
+        pool.acquire("ko-KR");
+        FakeConnection pending = created.get(0);
+        pending.connected = false;
+        pending.connecting = true;   // openConnection(false) 직후, connected 이벤트 전
+
+        FakeConnection leased = pool.acquire("ko-KR");
+
+        assertThat(leased).isSameAs(pending);
+        assertThat(pending.closed).isFalse();
+        assertThat(acquired("warm")).isEqualTo(1.0);
+    }
+
+    @Test
+    void idleTimeCountsFromWhenPooled() {
+        WarmPool<FakeConnection> pool = pool(1);
+        createLatencyMs = MAX_IDLE_MS / 2;
+        pool.touch("ko-KR");
+        pool.maintain();
+        createLatencyMs = 0;
+        FakeConnection slowToCreate = created.get(0);
+
+        // 생성 시각 기준으로는 maxIdleMs 를 넘었지만 풀에 들어온 뒤로는 아직 이내
+        now.addAndGet(MAX_IDLE_MS - 1);
+        pool.maintain();
+
+        assertThat(slowToCreate.closed).isFalse();
+        assertThat(pool.acquire("ko-KR")).isSameAs(slowToCreate);
+    }
+
+    @Test
+    void unusedLanguageIsNotRefilled() {
+        WarmPool<FakeConnection> pool = pool(2);
+        pool.acquire("ko-KR");
+
+        now.addAndGet(LANGUAGE_IDLE_MS + 1);
+        pool.maintain();
+
+        assertThat(pool.idleCount()).isZero();
+    }
+
+    @Test
+    void failedPreconnectStillServesColdConnection() {
+        WarmPool<FakeConnection> pool = pool(2);
+        preconnectFails = true;
+
+        FakeConnection leased = pool.acquire("ko-KR");
+
+        assertThat(leased.preconnected).isFalse();
+        assertThat(pool.idleCount()).isZero();
+    }
+
+    private WarmPool<FakeConnection> pool(int warmPerLanguage) {
+        // refill 을 호출 스레드에서 바로 실행 → 대여 직후 예비분 수를 바로 확인
+        return new WarmPool<>(this::create, Runnable::run, meters, now::get,
+                warmPerLanguage, MAX_IDLE_MS, LANGUAGE_IDLE_MS);
+    }
+
+    private FakeConnection create(String lang, boolean preconnect) {
+        if (preconnect && preconnectFails) throw new IllegalStateException("endpoint unreachable");
+        FakeConnection connection = new FakeConnection(preconnect);
+        now.addAndGet(createLatencyMs);
+        created.add(connection);
+        return connection;
+    }
+
+    private double acquired(String kind) {
+        return meters.counter("speech.pool.acquire", "lang", "ko-KR", "kind", kind).count();
+    }
+
+    /** 연결 이벤트 대신 preconnect 여부로 연결 상태를 흉내 낸 자원 */
+    private static final class FakeConnection implements WarmPool.Pooled {
+        final boolean preconnected;
+        boolean connected;
+        boolean connecting;
+        boolean closed;
+
+        FakeConnection(boolean preconnected) {
+            this.preconnected = preconnected;
+            this.connected = preconnected;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public boolean isConnecting() {
+            return connecting;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -8,8 +8,32 @@ import { useToastStore } from './Toast';
  * TranslationModal - 번역 요청 모달
  * 사용자가 새로운 언어로 번역을 요청할 수 있는 UI
  */
+// 진행 단계 표시 문구
+const STAGE_LABELS = {
+  QUEUED: '번역 대기 중...',
+  PROJECT_CREATED: '번역 프로젝트를 만들었어요',
+  EXPORT_QUEUED: '번역 순서를 기다리는 중...',
+  EXPORT_PROCESSING: '번역하는 중...',
+  DOWNLOADING: '번역된 영상을 받는 중...',
+  SCRIPTS_SAVED: '자막을 저장했어요',
+  DONE: '번역 완료!',
+  FAILED: '번역 실패',
+};
+
+const stageText = (progress) => {
+  if (!progress) return null;
+  const label = STAGE_LABELS[progress.stage] || progress.stage;
+  if (progress.stage === 'EXPORT_PROCESSING' && progress.progress != null) {
+    return `${label} ${progress.progress}%`;
+  }
+  if (progress.stage === 'DOWNLOADING' && progress.totalBytes) {
+    return `${label} ${Math.floor((progress.bytes / progress.totalBytes) * 100)}%`;
+  }
+  return label;
+};
+
 function TranslationModal({ isOpen, onClose, content }) {
-  const { translateContent, isTranslating } = useTranslationStore();
+  const { translateContent, watchJob, isTranslating, progress } = useTranslationStore();
   const { success: showSuccessToast, error: showErrorToast } = useToastStore();
   const [selectedLanguage, setSelectedLanguage] = useState('');
   const [error, setError] = useState('');
@@ -48,7 +72,12 @@ function TranslationModal({ isOpen, onClose, content }) {
         parentId: content.parentId || content.contentsId, // 원본 ID
       };
 
-      await translateContent(translateRequest);
+      const jobs = await translateContent(translateRequest);
+      // 접수된 job 의 진행 단계를 SSE 로 따라감 (완료/실패까지)
+      const jobId = Array.isArray(jobs) && jobs.length > 0 ? jobs[0].jobId : null;
+      if (jobId) {
+        await watchJob(jobId);
+      }
       setSuccess(true);
       showSuccessToast('번역 요청이 완료되었습니다! 🎉', 3000);
       
@@ -131,6 +160,14 @@ function TranslationModal({ isOpen, onClose, content }) {
               </div>
             )}
 
+            {/* 진행 단계 */}
+            {isTranslating && progress && (
+              <div className="mb-4 p-3 bg-purple-50 rounded-lg border border-purple-200 flex items-center gap-2">
+                <Loader2 className="w-4 h-4 text-purple-500 animate-spin" />
+                <p className="text-sm text-purple-700 font-bold">{stageText(progress)}</p>
+              </div>
+            )}
+
             {/* 에러 메시지 */}
             {error && (
               <div className="mb-4 p-3 bg-red-50 rounded-lg border border-red-200 flex items-center gap-2">
@@ -32,6 +32,12 @@ export const translationAPI = {
   // Translate content
   translate: (translateRequest) => api.post('/api/translate', translateRequest),
 
+  // Get translation job status (SSE 를 쓸 수 없을 때 polling 용)
+  getJob: (jobId) => api.get(`/api/translate/jobs/${jobId}`),
+
+  // SSE URL for translation job progress (EventSource 용)
+  jobEventsUrl: (jobId) => `${API_BASE_URL}/api/translate/jobs/${jobId}/events`,
+
   // Get scripts for content
   getScripts: (contentsId, lang) => {
     const params = lang ? { lang } : {};
@@ -1,12 +1,24 @@
 import { create } from 'zustand';
 import { translationAPI } from '../services/api';
 
+const JOB_POLL_INTERVAL_MS = 5000;
+
+// SSE 연결을 잃은 뒤 작업 상태를 주기적으로 조회 (COMPLETED / FAILED 까지)
+const pollJob = async (jobId) => {
+  for (;;) {
+    const { data: job } = await translationAPI.getJob(jobId);
+    if (job.status === 'COMPLETED' || job.status === 'FAILED') return job;
+    await new Promise((resolve) => setTimeout(resolve, JOB_POLL_INTERVAL_MS));
+  }
+};
+
 const useTranslationStore = create((set, get) => ({
   // State
   currentTranslation: null,
   scripts: [],
   isTranslating: false,
   isLoadingScripts: false,
+  progress: null, // 최근 진행 단계 이벤트 (SSE)
   error: null,
 
   // Actions
@@ -30,6 +42,45 @@ const useTranslationStore = create((set, get) => ({
     }
   },
 
+  // Follow job progress over SSE until DONE / FAILED (falls back to polling if the stream is lost)
+  watchJob: (jobId) => new Promise((resolve, reject) => {
+    set({ isTranslating: true, progress: null });
+    const source = new EventSource(translationAPI.jobEventsUrl(jobId), { withCredentials: true });
+
+    const finish = (event) => {
+      set({ isTranslating: false });
+      if (event.stage === 'DONE') {
+        resolve(event);
+      } else {
+        reject(new Error(event.message || '번역에 실패했습니다.'));
+      }
+    };
+
+    source.onmessage = (e) => {
+      const event = JSON.parse(e.data);
+      set({ progress: event });
+      if (event.stage === 'DONE' || event.stage === 'FAILED') {
+        source.close();
+        finish(event);
+      }
+    };
+
+    // 일시적 끊김(CONNECTING)은 EventSource 가 재연결, CLOSED 면 재연결을 포기한 것 → 상태 조회로 전환
+    source.onerror = () => {
+      if (source.readyState !== EventSource.CLOSED) return;
+      source.close();
+      pollJob(jobId)
+        .then((job) => finish(job.status === 'COMPLETED'
+          ? { stage: 'DONE', jobId: job.jobId, contentsId: job.contentsId }
+          : { stage: 'FAILED', jobId: job.jobId, message: job.errorMessage }))
+        .catch((error) => {
+          console.error('Watching translation job failed:', error);
+          set({ error: error.message, isTranslating: false });
+          reject(error);
+        });
+    };
+  }),
+
   // Load scripts for a content
   loadScripts: async (contentsId, lang) => {
     set({ isLoadingScripts: true, error: null });
@@ -57,6 +108,7 @@ const useTranslationStore = create((set, get) => ({
     set({
       currentTranslation: null,
       scripts: [],
+      progress: null,
       error: null,
     });
   },